@@ -0,0 +1,71 @@
+#!/usr/bin/env sh
+# Mide tiempo hasta la primera petición atendida y RSS para cada modo de arranque.
+#
+# Uso:  scripts/measure-startup.sh [jvm|aot|cds|native]...
+# Requisitos previos según el modo:
+#   jvm    ./gradlew bootJar
+#   aot    ./gradlew -Paot bootJar
+#   cds    ./gradlew cdsArchive
+#   native ./gradlew -Pnative nativeCompile
+#
+# Variables: PORT (8080), STARTUP_TIMEOUT en segundos (120).
+# Los resultados se añaden también a build/reports/startup/startup.txt.
+set -eu
+
+PORT="${PORT:-8080}"
+STARTUP_TIMEOUT="${STARTUP_TIMEOUT:-120}"
+URL="http://localhost:${PORT}/api/v1/users/1"
+JAR="$(ls build/libs/*-SNAPSHOT.jar 2>/dev/null | grep -v plain | head -n 1 || true)"
+CDS_JAR="$(ls build/cds/*.jar 2>/dev/null | head -n 1 || true)"
+NATIVE_BIN="build/native/nativeCompile/architecture-ports-and-adapters"
+REPORT_DIR="$(pwd)/build/reports/startup"
+
+# Milisegundos desde epoch sin depender de "date +%N" (solo GNU)
+now_ms() { perl -MTime::HiRes=time -e 'printf("%d\n", time() * 1000)'; }
+
+require() {
+  if [ -z "$2" ] || [ ! -e "$2" ]; then
+    echo "Modo $1: falta el artefacto (${2:-no encontrado}); constrúyelo primero." >&2
+    exit 1
+  fi
+}
+
+measure() {
+  mode="$1"; shift
+  start="$(now_ms)"
+  deadline=$(( start + STARTUP_TIMEOUT * 1000 ))
+  "$@" --server.port="${PORT}" >/dev/null 2>&1 &
+  pid=$!
+  # Cualquier respuesta HTTP (incluido 404) cuenta como primera petición atendida
+  until curl -s -o /dev/null --max-time 1 "${URL}"; do
+    if ! kill -0 "${pid}" 2>/dev/null; then
+      echo "Modo ${mode}: el proceso terminó antes de atender peticiones." >&2
+      exit 1
+    fi
+    if [ "$(now_ms)" -ge "${deadline}" ]; then
+      kill "${pid}" 2>/dev/null || true
+      echo "Modo ${mode}: sin respuesta tras ${STARTUP_TIMEOUT}s." >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+  ttfr=$(( $(now_ms) - start ))
+  rss_kb="$(ps -o rss= -p "${pid}" | tr -d ' ')"
+  kill "${pid}"; wait "${pid}" 2>/dev/null || true
+  printf '%-7s time-to-first-request=%6d ms  rss=%6d MB\n' "${mode}" "${ttfr}" $(( rss_kb / 1024 )) \
+    | tee -a "${REPORT_DIR}/startup.txt"
+}
+
+mkdir -p "${REPORT_DIR}"
+[ "$#" -eq 0 ] && set -- jvm aot cds native
+for mode in "$@"; do
+  case "${mode}" in
+    jvm)    require jvm "${JAR}"; measure jvm java -jar "${JAR}" ;;
+    aot)    require aot "${JAR}"; measure aot java -Dspring.aot.enabled=true -jar "${JAR}" ;;
+    # CDS exige el mismo classpath que en la ejecución de entrenamiento
+    cds)    require cds "${CDS_JAR}"; require cds build/cds/application.jsa
+            (cd build/cds && measure cds java -XX:SharedArchiveFile=application.jsa -jar "$(basename "${CDS_JAR}")") ;;
+    native) require native "${NATIVE_BIN}"; measure native "${NATIVE_BIN}" ;;
+    *)      echo "Modo desconocido: ${mode}" >&2; exit 1 ;;
+  esac
+done
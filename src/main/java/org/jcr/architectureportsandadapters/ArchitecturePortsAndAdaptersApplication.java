@@ -1,9 +1,14 @@
 package org.jcr.architectureportsandadapters;
 
+import org.jcr.architectureportsandadapters.shared.aot.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
+@EnableScheduling
 public class ArchitecturePortsAndAdaptersApplication {
 
     public static void main(String[] args) {
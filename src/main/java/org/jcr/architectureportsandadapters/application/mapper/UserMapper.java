@@ -1,10 +1,15 @@
 package org.jcr.architectureportsandadapters.application.mapper;
 
 import org.jcr.architectureportsandadapters.domain.model.User;
+import org.jcr.architectureportsandadapters.domain.model.UserHotKey;
 import org.jcr.architectureportsandadapters.port.in.web.dto.request.UserRequest;
+import org.jcr.architectureportsandadapters.port.in.web.dto.response.UserHotKeyResponse;
 import org.jcr.architectureportsandadapters.port.in.web.dto.response.UserResponse;
 import org.jcr.architectureportsandadapters.infraestructure.persistence.entity.UserEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
 
 /**
  * Mapper para convertir entre entidades, DTOs y objetos de dominio.
@@ -47,14 +52,16 @@ public interface UserMapper {
      * TRANSFORMACIÓN:
      * - User (record inmutable) → UserEntity (clase mutable con anotaciones JPA)
      * - Mapea campos: id, nombre, apellido
+     * - persisted lo gestiona el adaptador/JPA, no el mapper
      */
+    @Mapping(target = "persisted", ignore = true)
     UserEntity toEntity(User userDomain);
     
     /**
      * Convierte un UserEntity a objeto de dominio User.
      * 
      * CONEXIÓN: Persistencia → Dominio  
-     * USADO EN: UserJpaAdapter.save() y UserJpaAdapter.findById()
+     * USADO EN: UserJpaAdapter.save()
      * FLUJO: JPA → UserEntity → UserMapper.toUserDomain() → UserService
      * 
      * TRANSFORMACIÓN:
@@ -80,7 +87,8 @@ public interface UserMapper {
      * Convierte un objeto de dominio User a UserResponse.
      * 
      * CONEXIÓN: Dominio → HTTP
-     * USADO EN: UserController.createUser() y UserController.getUser()
+     * USADO EN: UserController.createUser()
+     * (UserController.getUser() escribe la respuesta con UserResponseWriter)
      * FLUJO: UserService → User → UserMapper.toResponse() → HTTP JSON
      * 
      * TRANSFORMACIÓN:
@@ -88,4 +96,22 @@ public interface UserMapper {
      * - Incluye todos los campos: id, nombre, apellido
      */
     UserResponse toResponse(User userDomain);
+
+    /**
+     * Convierte una lista de usuarios de dominio a UserResponse.
+     * 
+     * CONEXIÓN: Dominio → HTTP
+     * USADO EN: UserController.listUsers()
+     */
+    List<UserResponse> toResponseList(List<User> users);
+
+    /**
+     * Convierte las estadísticas de acceso a su DTO de respuesta.
+     * 
+     * CONEXIÓN: Dominio → HTTP
+     * USADO EN: UserAdminController.getHotKeys()
+     */
+    UserHotKeyResponse toResponse(UserHotKey hotKey);
+
+    List<UserHotKeyResponse> toHotKeyResponseList(List<UserHotKey> hotKeys);
 }
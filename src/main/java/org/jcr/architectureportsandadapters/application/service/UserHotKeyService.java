@@ -0,0 +1,60 @@
+package org.jcr.architectureportsandadapters.application.service;
+
+import org.jcr.architectureportsandadapters.domain.model.UserHotKey;
+import org.jcr.architectureportsandadapters.port.in.GetHotUsersPort;
+import org.jcr.architectureportsandadapters.port.in.RecordUserAccessPort;
+import org.jcr.architectureportsandadapters.shared.hotkeys.HeavyHittersTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Servicio de aplicación que lleva las estadísticas de acceso por ID de usuario.
+ *
+ * CONEXIONES:
+ * - Implementa RecordUserAccessPort: UserService.findById() registra cada consulta
+ * - Implementa GetHotUsersPort: UserAdminController expone el top-K
+ * - Cada hotkeys.decay-interval-ms las frecuencias se reducen a la mitad, de modo que
+ *   el top-K refleja el tráfico reciente y no el acumulado desde el arranque
+ */
+@Service
+public class UserHotKeyService implements GetHotUsersPort, RecordUserAccessPort {
+
+    private final HeavyHittersTracker tracker;
+
+    public UserHotKeyService(@Value("${hotkeys.top-k:20}") int topK,
+                             @Value("${hotkeys.sketch.depth:4}") int sketchDepth,
+                             @Value("${hotkeys.sketch.width:2048}") int sketchWidth) {
+        this.tracker = new HeavyHittersTracker(topK, sketchDepth, sketchWidth);
+    }
+
+    /**
+     * Registra una consulta al usuario indicado (coste O(depth), sin locks en el caso habitual).
+     *
+     * @param userId ID consultado, exista o no el usuario.
+     */
+    @Override
+    public void recordAccess(Long userId) {
+        if (userId != null) {
+            tracker.record(userId);
+        }
+    }
+
+    @Override
+    public List<UserHotKey> findHottest(int limit) {
+        return tracker.top(limit).stream()
+                .map(hotKey -> new UserHotKey(hotKey.key(), hotKey.estimate()))
+                .toList();
+    }
+
+    /**
+     * Decaimiento periódico de las frecuencias.
+     */
+    @Scheduled(fixedRateString = "${hotkeys.decay-interval-ms:60000}",
+            initialDelayString = "${hotkeys.decay-interval-ms:60000}")
+    public void decay() {
+        tracker.decay();
+    }
+}
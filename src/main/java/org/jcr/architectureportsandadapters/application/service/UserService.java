@@ -3,10 +3,12 @@ package org.jcr.architectureportsandadapters.application.service;
 import lombok.RequiredArgsConstructor;
 import org.jcr.architectureportsandadapters.port.in.CreateUserPort;
 import org.jcr.architectureportsandadapters.port.in.GetUserPort;
+import org.jcr.architectureportsandadapters.port.in.RecordUserAccessPort;
 import org.jcr.architectureportsandadapters.port.out.UserPersistencePort;
 import org.jcr.architectureportsandadapters.domain.model.User;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,9 +21,11 @@ import java.util.Optional;
  *    - GetUserPort: Define el caso de uso para consultar usuarios
  *    - Esto hace que UserService sea la IMPLEMENTACIÓN CONCRETA de estos contratos
  * 
- * 2. DEPENDE DE PUERTOS DE SALIDA (Output Ports):
- *    - UserPersistencePort: Interfaz para operaciones de persistencia
- *    - Spring inyectará automáticamente UserJpaAdapter que implementa este puerto
+ * 2. DEPENDE DE PUERTOS:
+ *    - UserPersistencePort (salida): Interfaz para operaciones de persistencia
+ *      Spring inyectará automáticamente UserJpaAdapter que implementa este puerto
+ *    - RecordUserAccessPort (entrada): Registro de consultas para el top-K de usuarios
+ *      Spring inyectará UserHotKeyService, que también implementa GetHotUsersPort
  * 
  * 3. POSICIÓN EN LA ARQUITECTURA:
  *    - Capa de APLICACIÓN: Orquesta casos de uso y coordina entre dominio e infraestructura
@@ -42,6 +46,10 @@ public class UserService implements CreateUserPort, GetUserPort {
     // PRINCIPIO DIP: Dependemos de abstracciones, no de implementaciones concretas
     private final UserPersistencePort userPersistencePort;
 
+    // ESTADÍSTICAS DE ACCESO: top-K de IDs más consultados (ver GetHotUsersPort)
+    // Spring inyectará UserHotKeyService que implementa esta interfaz
+    private final RecordUserAccessPort recordUserAccessPort;
+
     /**
      * Crea un nuevo usuario en el sistema.
      * 
@@ -91,9 +99,27 @@ public class UserService implements CreateUserPort, GetUserPort {
         // - Log de auditoría
         // - Verificación de permisos
         // - Cache de consultas frecuentes
+
+        // Registro del acceso para detectar IDs calientes (incluye IDs inexistentes)
+        recordUserAccessPort.recordAccess(id);
         
         // DELEGACIÓN AL PUERTO DE SALIDA:
         // El servicio no conoce la tecnología de persistencia subyacente
         return userPersistencePort.findById(id);
     }
+
+    /**
+     * Obtiene una página de usuarios ordenada por ID.
+     * 
+     * Con sharding activo, el puerto de salida (ShardedUserPersistenceAdapter) consulta
+     * todos los shards en paralelo y combina los resultados; el servicio no lo nota.
+     *
+     * @param afterId Cursor: último ID de la página anterior (0 para la primera).
+     * @param limit Tamaño máximo de la página.
+     * @return Lista de usuarios ordenada por ID.
+     */
+    @Override
+    public List<User> findPage(long afterId, int limit) {
+        return userPersistencePort.findPage(afterId, limit);
+    }
 }
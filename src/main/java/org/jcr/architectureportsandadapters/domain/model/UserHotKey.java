@@ -0,0 +1,10 @@
+package org.jcr.architectureportsandadapters.domain.model;
+
+/**
+ * ID de usuario consultado con frecuencia y su número estimado de accesos recientes.
+ */
+public record UserHotKey(
+        Long userId,
+        long estimatedHits
+) {
+}
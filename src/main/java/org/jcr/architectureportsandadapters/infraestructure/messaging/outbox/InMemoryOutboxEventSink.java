@@ -0,0 +1,35 @@
+package org.jcr.architectureportsandadapters.infraestructure.messaging.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Sink en memoria, SOLO para tests y el perfil dev (outbox.sink.type=memory).
+ * Los eventos se acumulan sin límite y se pierden al reiniciar: nunca usarlo en producción.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink.type", havingValue = "memory")
+public class InMemoryOutboxEventSink implements OutboxEventSink {
+
+    private final Queue<OutboxMessage> published = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void publish(OutboxMessage message) {
+        published.add(message);
+    }
+
+    /**
+     * Eventos publicados, en orden de publicación.
+     */
+    public List<OutboxMessage> getPublished() {
+        return List.copyOf(published);
+    }
+
+    public void clear() {
+        published.clear();
+    }
+}
@@ -0,0 +1,13 @@
+package org.jcr.architectureportsandadapters.infraestructure.messaging.outbox;
+
+/**
+ * Destino al que OutboxRelay publica los eventos de usuario (Kafka, colas, webhooks...).
+ * Cualquier excepción deja el evento pendiente para reintentarlo en el siguiente ciclo.
+ */
+public interface OutboxEventSink {
+    /**
+     * Publica un evento.
+     * @param message Evento a publicar.
+     */
+    void publish(OutboxMessage message);
+}
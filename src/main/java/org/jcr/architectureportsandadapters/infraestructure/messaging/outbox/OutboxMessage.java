@@ -0,0 +1,18 @@
+package org.jcr.architectureportsandadapters.infraestructure.messaging.outbox;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.Instant;
+
+/**
+ * Evento de usuario tal como se entrega al sink.
+ * aggregateId es un ID de usuario (63 bits) y se serializa como cadena, igual que en la API.
+ */
+public record OutboxMessage(
+        Long id,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long aggregateId,
+        String eventType,
+        String payload,
+        Instant createdAt
+) {
+}
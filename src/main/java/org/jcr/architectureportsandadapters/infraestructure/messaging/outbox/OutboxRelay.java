@@ -0,0 +1,199 @@
+package org.jcr.architectureportsandadapters.infraestructure.messaging.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.entity.OutboxEventEntity;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.repository.jpa.SpringDataOutboxEventRepository;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.sharding.ShardContext;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.sharding.ShardTopology;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relay del outbox: publica en lotes los eventos pendientes de la tabla outbox_usuarios.
+ *
+ * FUNCIONAMIENTO:
+ * 1. Cada ciclo reclama hasta batch-size eventos (FOR UPDATE SKIP LOCKED si la BD lo soporta)
+ * 2. Publica cada evento en el OutboxEventSink configurado
+ * 3. Marca como entregados los publicados y registra el error en los que fallan;
+ *    un evento fallido no se reintenta hasta pasado su backoff exponencial
+ *    (retry-base-delay * 2^(intentos-1), con tope retry-max-delay)
+ * 4. Todo dentro de UNA transacción por lote: los locks se liberan al confirmar
+ *
+ * SHARDING:
+ * - Con persistence.sharding.enabled=true cada shard tiene su propia tabla outbox;
+ *   cada ciclo y cada limpieza recorren todos los shards
+ *
+ * ORDEN POR USUARIO:
+ * - El reclamo solo devuelve el evento pendiente más antiguo de cada usuario
+ * - Un evento fallido bloquea los posteriores del mismo usuario hasta que se entregue
+ *
+ * ACTIVACIÓN:
+ * - Solo existe si outbox.sink.type está definido; sin sink los eventos quedan pendientes
+ *   en la tabla (no se marcan como entregados ni se borran)
+ * - Si el tipo configurado no tiene implementación, el arranque falla por falta de OutboxEventSink
+ *
+ * MÉTRICAS (Micrometer):
+ * - outbox.events.published / outbox.events.failed: throughput y errores
+ * - outbox.events.delivery.lag: tiempo entre la creación y la entrega de cada evento
+ * - outbox.events.oldest.pending.age: antigüedad del evento pendiente más antiguo
+ * - outbox.relay.batch: duración de cada lote
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.sink.type")
+public class OutboxRelay {
+
+    private final SpringDataOutboxEventRepository outboxRepository;
+    private final OutboxEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration retention;
+    private final Duration retryBaseDelay;
+    private final Duration retryMaxDelay;
+    private final int shardCount;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer deliveryLagTimer;
+    private final Timer batchTimer;
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+
+    public OutboxRelay(SpringDataOutboxEventRepository outboxRepository,
+                       OutboxEventSink sink,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       ObjectProvider<ShardTopology> shardTopology,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.max-batches-per-poll:10}") int maxBatchesPerPoll,
+                       @Value("${outbox.relay.retention:PT1H}") Duration retention,
+                       @Value("${outbox.relay.retry-base-delay:PT1S}") Duration retryBaseDelay,
+                       @Value("${outbox.relay.retry-max-delay:PT5M}") Duration retryMaxDelay) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.retention = retention;
+        this.retryBaseDelay = retryBaseDelay;
+        this.retryMaxDelay = retryMaxDelay;
+        this.shardCount = shardTopology.getIfAvailable(ShardTopology::single).shardCount();
+
+        this.publishedCounter = meterRegistry.counter("outbox.events.published");
+        this.failedCounter = meterRegistry.counter("outbox.events.failed");
+        this.deliveryLagTimer = Timer.builder("outbox.events.delivery.lag")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchTimer = meterRegistry.timer("outbox.relay.batch");
+        Gauge.builder("outbox.events.oldest.pending.age", oldestPendingAgeMillis, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ciclo programado: drena lotes completos hasta vaciar la tabla o alcanzar el máximo por ciclo.
+     */
+    @Scheduled(initialDelayString = "${outbox.relay.poll-interval-ms:500}",
+            fixedDelayString = "${outbox.relay.poll-interval-ms:500}")
+    public void poll() {
+        Instant oldest = null;
+        for (int shard = 0; shard < shardCount; shard++) {
+            Instant shardOldest = ShardContext.callOnShard(shard, () -> {
+                drain();
+                return outboxRepository.findOldestPendingCreatedAt().orElse(null);
+            });
+            if (shardOldest != null && (oldest == null || shardOldest.isBefore(oldest))) {
+                oldest = shardOldest;
+            }
+        }
+        oldestPendingAgeMillis.set(oldest == null ? 0 : Duration.between(oldest, Instant.now()).toMillis());
+    }
+
+    // Solo se pide otro lote si el anterior se entregó completo: los fallos esperan su backoff
+    private void drain() {
+        int batches = 0;
+        int delivered;
+        do {
+            delivered = relayBatch();
+            batches++;
+        } while (delivered == batchSize && batches < maxBatchesPerPoll);
+    }
+
+    /**
+     * Reclama y publica un lote de eventos del shard activo (el 0 sin sharding).
+     *
+     * @return Número de eventos entregados en el lote.
+     */
+    public int relayBatch() {
+        long start = System.nanoTime();
+        Integer delivered = transactionTemplate.execute(status -> {
+            List<OutboxEventEntity> events = outboxRepository.claimPending(Instant.now(), Limit.of(batchSize));
+            int count = 0;
+            for (OutboxEventEntity event : events) {
+                if (publish(event)) {
+                    count++;
+                }
+            }
+            return count;
+        });
+        batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return delivered == null ? 0 : delivered;
+    }
+
+    /**
+     * Elimina periódicamente los eventos entregados hace más de outbox.relay.retention.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.cleanup-interval-ms:60000}")
+    public int cleanup() {
+        Instant limit = Instant.now().minus(retention);
+        int deleted = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            Integer shardDeleted = ShardContext.callOnShard(shard, () -> transactionTemplate.execute(status ->
+                    outboxRepository.deleteDeliveredBefore(limit)));
+            deleted += shardDeleted == null ? 0 : shardDeleted;
+        }
+        return deleted;
+    }
+
+    private boolean publish(OutboxEventEntity event) {
+        try {
+            sink.publish(new OutboxMessage(event.getId(), event.getAggregateId(),
+                    event.getEventType(), event.getPayload(), event.getCreatedAt()));
+            Instant now = Instant.now();
+            event.markDelivered(now);
+            publishedCounter.increment();
+            deliveryLagTimer.record(Duration.between(event.getCreatedAt(), now));
+            return true;
+        } catch (RuntimeException e) {
+            // El evento queda pendiente y bloquea los siguientes del mismo usuario
+            Duration delay = retryDelay(event.getAttempts() + 1);
+            event.markFailed(e.getMessage(), Instant.now().plus(delay));
+            failedCounter.increment();
+            log.warn("Error publicando evento outbox {} (usuario {}, intento {}), reintento en {}: {}",
+                    event.getId(), event.getAggregateId(), event.getAttempts(), delay, e.getMessage());
+            return false;
+        }
+    }
+
+    // Backoff exponencial: base, 2*base, 4*base... hasta retryMaxDelay
+    private Duration retryDelay(int attempts) {
+        Duration delay = retryBaseDelay.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return delay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : delay;
+    }
+}
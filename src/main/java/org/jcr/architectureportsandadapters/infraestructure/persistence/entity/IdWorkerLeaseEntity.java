@@ -0,0 +1,43 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Entidad JPA para los leases de worker ID de SnowflakeIdGenerator.
+ *
+ * Cada instancia de la aplicación reserva una fila (un worker ID) mientras está viva y la
+ * renueva periódicamente; si deja de renovarla, otra instancia puede quedársela al caducar.
+ * expires_at del titular anterior marca el último milisegundo en el que pudo emitir IDs:
+ * quien se queda la fila no emite IDs hasta después de ese instante (ver WorkerIdLease).
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Entity(name = "id_worker_leases")
+public class IdWorkerLeaseEntity {
+    @Id
+    @Column(name = "worker_id")
+    private Integer workerId;
+
+    // Instancia propietaria del lease (pid@host + sufijo aleatorio)
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * Traspasa el lease a otra instancia (o lo amplía si ya era suyo).
+     */
+    public void assignTo(String owner, Instant expiresAt) {
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+    }
+}
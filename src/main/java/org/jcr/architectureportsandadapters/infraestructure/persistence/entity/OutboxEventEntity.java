@@ -0,0 +1,78 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Entidad JPA para la tabla outbox de eventos de usuario.
+ *
+ * PATRÓN TRANSACTIONAL OUTBOX:
+ * - UserJpaAdapter inserta una fila en la MISMA transacción que el usuario
+ * - OutboxRelay lee las filas pendientes en lotes y las publica en el sink
+ * - Si la transacción se revierte, el evento tampoco existe (sin eventos perdidos ni fantasmas)
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Entity(name = "outbox_usuarios")
+@Table(indexes = @Index(name = "idx_outbox_usuarios_pendientes", columnList = "delivered_at, aggregate_id"))
+public class OutboxEventEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // ID del usuario: clave de ordenamiento de los eventos
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    // null mientras el evento está pendiente de entrega
+    @Column(name = "delivered_at")
+    private Instant deliveredAt;
+
+    private int attempts;
+
+    // Tras un fallo, el evento no se vuelve a reclamar antes de este instante
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * Marca el evento como entregado al sink.
+     */
+    public void markDelivered(Instant instant) {
+        this.deliveredAt = instant;
+        this.lastError = null;
+    }
+
+    /**
+     * Registra un intento fallido; el evento sigue pendiente hasta nextAttemptAt.
+     */
+    public void markFailed(String error, Instant nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
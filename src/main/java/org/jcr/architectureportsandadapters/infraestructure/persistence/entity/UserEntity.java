@@ -1,28 +1,50 @@
 package org.jcr.architectureportsandadapters.infraestructure.persistence.entity;
 
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 /**
  * Entidad JPA que representa un usuario en la base de datos.
  * Utiliza Lombok para generar constructores y builder.
+ *
+ * El ID lo asigna UserJpaAdapter con SnowflakeIdGenerator (codifica el shard del usuario).
+ * Persistable evita que Spring Data haga un SELECT previo al INSERT al ver un ID ya asignado.
  */
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Getter
 @Entity(name = "usuarios")
-public class UserEntity {
+public class UserEntity implements Persistable<Long> {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     private String nombre;
     private String apellido;
+
+    // false hasta que la entidad se inserta o se carga desde la BD
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    /**
+     * Marca la entidad como existente en la BD (save() hará UPDATE en lugar de INSERT).
+     */
+    @PostLoad
+    @PostPersist
+    public void markPersisted() {
+        this.persisted = true;
+    }
 }
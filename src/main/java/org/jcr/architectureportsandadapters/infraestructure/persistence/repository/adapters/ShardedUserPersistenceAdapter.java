@@ -0,0 +1,143 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.repository.adapters;
+
+import org.jcr.architectureportsandadapters.domain.model.User;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.sharding.ShardContext;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.sharding.ShardTopology;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.sharding.SnowflakeIdGenerator;
+import org.jcr.architectureportsandadapters.port.out.UserPersistencePort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptador de persistencia que reparte los usuarios entre N shards.
+ * Implementa el puerto de salida UserPersistencePort (persistence.sharding.enabled=true).
+ *
+ * CONEXIONES ARQUITECTÓNICAS:
+ *
+ * 1. DECORA A UserJpaAdapter:
+ *    - Elige el shard, lo fija en ShardContext y delega en UserJpaAdapter
+ *    - ShardRoutingDataSource dirige la transacción de UserJpaAdapter al shard elegido
+ *    - El evento outbox se escribe en el MISMO shard y transacción que el usuario
+ *
+ * 2. ENRUTADO:
+ *    - save (nuevo): shard en round-robin; SnowflakeIdGenerator codifica el shard en el ID
+ *    - findById: SnowflakeIdGenerator.shardOf(id) -> un único shard, sin difusión
+ *    - findPage: pide la página (mismo cursor y límite) a TODOS los shards en paralelo y
+ *      la combina con una mezcla k-way por ID; como máximo shards x limit filas en memoria
+ *
+ * 3. POSICIÓN EN LA ARQUITECTURA:
+ *    - UserService no cambia: sigue dependiendo solo de UserPersistencePort
+ *    - @Primary hace que Spring inyecte este adaptador en lugar de UserJpaAdapter
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "persistence.sharding.enabled", havingValue = "true")
+public class ShardedUserPersistenceAdapter implements UserPersistencePort {
+
+    private final UserJpaAdapter delegate;
+    private final int shardCount;
+    private final ExecutorService fanOutExecutor;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    public ShardedUserPersistenceAdapter(UserJpaAdapter delegate,
+                                         ShardTopology shardTopology,
+                                         @Qualifier("shardFanOutExecutor") ExecutorService fanOutExecutor) {
+        this.delegate = delegate;
+        this.shardCount = shardTopology.shardCount();
+        this.fanOutExecutor = fanOutExecutor;
+    }
+
+    /**
+     * Guarda un usuario: los nuevos van al siguiente shard en round-robin,
+     * los existentes al shard codificado en su ID.
+     */
+    @Override
+    public User save(User user) {
+        int shard = user.id() == null
+                ? Math.floorMod(nextShard.getAndIncrement(), shardCount)
+                : SnowflakeIdGenerator.shardOf(user.id());
+        return ShardContext.callOnShard(shard, () -> delegate.save(user));
+    }
+
+    /**
+     * Busca un usuario consultando únicamente el shard codificado en su ID.
+     */
+    @Override
+    public Optional<User> findById(Long id) {
+        int shard = SnowflakeIdGenerator.shardOf(id);
+        if (shard >= shardCount) {
+            return Optional.empty();
+        }
+        return ShardContext.callOnShard(shard, () -> delegate.findById(id));
+    }
+
+    /**
+     * Devuelve los limit primeros usuarios con ID mayor que afterId de entre todos los shards.
+     *
+     * Los IDs son globalmente únicos y cada shard devuelve su página ya ordenada, así que
+     * el cursor (último ID devuelto) sirve igual para todos los shards en la siguiente página.
+     */
+    @Override
+    public List<User> findPage(long afterId, int limit) {
+        List<CompletableFuture<List<User>>> perShard = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            final int current = shard;
+            perShard.add(CompletableFuture.supplyAsync(
+                    () -> ShardContext.callOnShard(current, () -> delegate.findPage(afterId, limit)), fanOutExecutor));
+        }
+        return mergeById(perShard.stream().map(CompletableFuture::join).toList(), limit);
+    }
+
+    // Mezcla k-way: un cursor por shard en un heap de tamaño k, se detiene al llegar a limit
+    private static List<User> mergeById(List<List<User>> sortedPages, int limit) {
+        PriorityQueue<PageCursor> heap = new PriorityQueue<>(Math.max(1, sortedPages.size()),
+                Comparator.comparingLong(PageCursor::currentId));
+        for (List<User> page : sortedPages) {
+            if (!page.isEmpty()) {
+                heap.add(new PageCursor(page));
+            }
+        }
+
+        List<User> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heap.isEmpty()) {
+            PageCursor cursor = heap.poll();
+            merged.add(cursor.next());
+            if (cursor.hasNext()) {
+                heap.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    private static final class PageCursor {
+        private final List<User> page;
+        private int position;
+
+        PageCursor(List<User> page) {
+            this.page = page;
+        }
+
+        long currentId() {
+            return page.get(position).id();
+        }
+
+        User next() {
+            return page.get(position++);
+        }
+
+        boolean hasNext() {
+            return position < page.size();
+        }
+    }
+}
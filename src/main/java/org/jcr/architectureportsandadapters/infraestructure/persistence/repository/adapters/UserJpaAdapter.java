@@ -1,13 +1,23 @@
 package org.jcr.architectureportsandadapters.infraestructure.persistence.repository.adapters;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import org.jcr.architectureportsandadapters.application.mapper.UserMapper;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.entity.OutboxEventEntity;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.repository.jpa.SpringDataOutboxEventRepository;
 import org.jcr.architectureportsandadapters.port.out.UserPersistencePort;
 import org.jcr.architectureportsandadapters.domain.model.User;
 import org.jcr.architectureportsandadapters.infraestructure.persistence.entity.UserEntity;
 import org.jcr.architectureportsandadapters.infraestructure.persistence.repository.jpa.SpringDataUserRepository;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.sharding.SnowflakeIdGenerator;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -34,6 +44,7 @@ import java.util.Optional;
  *    - Ejecutar operaciones CRUD usando Spring Data JPA
  *    - Transformar resultados JPA de vuelta a objetos de dominio
  *    - Manejar excepciones específicas de persistencia
+ *    - Registrar el evento de cambio en la tabla outbox (misma transacción)
  * 
  * 5. FLUJO DE TRANSFORMACIÓN:
  *    UserService -> UserPersistencePort -> UserJpaAdapter -> UserMapper -> UserEntity -> JPA -> BD
@@ -49,16 +60,30 @@ public class UserJpaAdapter implements UserPersistencePort {
     // Mantiene la separación entre el modelo de dominio y el modelo de persistencia
     private final UserMapper userMapper;
 
+    // OUTBOX: Eventos de cambio de usuario, publicados después por OutboxRelay
+    private final SpringDataOutboxEventRepository outboxRepository;
+
+    // Serializa el usuario como payload del evento
+    private final ObjectMapper objectMapper;
+
+    // IDs Snowflake: codifican el shard activo (0 sin sharding)
+    private final SnowflakeIdGenerator idGenerator;
+
     /**
      * Guarda un usuario en la base de datos.
      * 
      * PROCESO DE TRANSFORMACIÓN Y PERSISTENCIA:
      * 1. Recibe User (objeto de dominio) desde UserService
-     * 2. Transforma User -> UserEntity usando UserMapper.toEntity()
-     * 3. Persiste UserEntity usando Spring Data JPA (userRepository.save())
-     * 4. JPA devuelve UserEntity con ID generado
+     * 2. Si es un usuario nuevo, le asigna un ID con SnowflakeIdGenerator
+     * 3. Transforma User -> UserEntity usando UserMapper.toEntity()
+     * 4. Persiste UserEntity usando Spring Data JPA (userRepository.save())
      * 5. Transforma UserEntity -> User usando UserMapper.toUserDomain()
-     * 6. Devuelve User (objeto de dominio) al UserService
+     * 6. Inserta el evento USER_CREATED/USER_UPDATED en la tabla outbox
+     * 7. Devuelve User (objeto de dominio) al UserService
+     * 
+     * TRANSACCIONALIDAD:
+     * El usuario y su evento se confirman juntos: si falla cualquiera de los dos
+     * INSERT no queda ni el usuario ni el evento.
      * 
      * CONEXIONES:
      * UserService -> UserPersistencePort.save() -> UserJpaAdapter.save() -> UserMapper -> JPA -> BD
@@ -67,59 +92,99 @@ public class UserJpaAdapter implements UserPersistencePort {
      * @return Usuario guardado.
      */
     @Override
+    @Transactional
     public User save(User user) {
+        final boolean isNew = user.id() == null;
+        final String eventType = isNew ? "USER_CREATED" : "USER_UPDATED";
+
         // PASO 1: Transformación de Dominio a JPA
         // User (inmutable, dominio) -> UserEntity (mutable, persistencia)
-        UserEntity userEntity = userMapper.toEntity(user);
+        // Los usuarios nuevos reciben aquí su ID (ya no lo genera la BD)
+        UserEntity userEntity = userMapper.toEntity(
+                isNew ? new User(idGenerator.nextId(), user.nombre(), user.apellido()) : user);
+        if (!isNew) {
+            userEntity.markPersisted();
+        }
         
         // PASO 2: Persistencia usando Spring Data JPA
         // El repositorio maneja la conexión a BD, transacciones, etc.
         userEntity = userRepository.save(userEntity);
 
         // PASO 3: Transformación de JPA a Dominio
-        // UserEntity (con ID generado) -> User (objeto de dominio)
+        // UserEntity (persistida) -> User (objeto de dominio)
         User userDomain = userMapper.toUserDomain(userEntity);
 
-        // PASO 4: Devolver objeto de dominio al UserService
+        // PASO 4: Registro del evento en el outbox (misma transacción)
+        outboxRepository.save(OutboxEventEntity.builder()
+                .aggregateId(userDomain.id())
+                .eventType(eventType)
+                .payload(toPayload(userDomain))
+                .createdAt(Instant.now())
+                .build());
+
+        // PASO 5: Devolver objeto de dominio al UserService
         return userDomain;
     }
 
     /**
      * Busca un usuario por su ID.
      * 
-     * PROCESO DE CONSULTA Y TRANSFORMACIÓN:
+     * PROCESO DE CONSULTA (PROYECCIÓN):
      * 1. Recibe ID desde UserService
-     * 2. Consulta userRepository.findById(id) -> Optional<UserEntity>
-     * 3. Si existe UserEntity, lo transforma a User usando UserMapper
+     * 2. Consulta userRepository.findUserById(id) -> Optional<User>
+     * 3. Las columnas se leen directamente en el record User: no se crea UserEntity,
+     *    no se registra en el contexto de persistencia y no pasa por UserMapper
      * 4. Devuelve Optional<User> (objeto de dominio) al UserService
      * 
      * CONEXIONES:
      * UserService -> UserPersistencePort.findById() -> UserJpaAdapter.findById() -> 
-     * SpringDataUserRepository -> JPA -> BD -> UserEntity -> UserMapper -> User
+     * SpringDataUserRepository -> JPA -> BD -> User
      * 
      * MANEJO DE OPTIONAL:
      * - Si no existe en BD: Optional.empty()
-     * - Si existe: Optional.of(User) tras transformación
+     * - Si existe: Optional.of(User)
+     * 
+     * LECTURA (readOnly):
+     * Con persistence.routing.enabled=true la consulta se sirve desde una réplica,
+     * salvo que el mismo cliente haya escrito dentro de la ventana read-your-writes.
      * 
      * @param id ID del usuario.
      * @return Usuario encontrado, si existe.
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findById(Long id) {
-        // FLUJO FUNCIONAL CON TRANSFORMACIÓN:
-        // 1. userRepository.findById(id) -> Optional<UserEntity>
-        // 2. .map(userMapper::toUserDomain) -> transforma UserEntity a User si existe
-        // 3. Resultado: Optional<User> (objeto de dominio)
-        
-        return userRepository.findById(id)  // Optional<UserEntity>
-                .map(userMapper::toUserDomain);  // Optional<User>
-        
-        // Equivalente a:
-        // Optional<UserEntity> entityOpt = userRepository.findById(id);
-        // if (entityOpt.isPresent()) {
-        //     User user = userMapper.toUserDomain(entityOpt.get());
-        //     return Optional.of(user);
-        // }
-        // return Optional.empty();
+        // PROYECCIÓN: BD -> User, sin entidad intermedia
+        // Equivale a userRepository.findById(id).map(userMapper::toUserDomain)
+        // pero sin UserEntity, snapshot de Hibernate ni copia del mapper
+        return userRepository.findUserById(id);
+    }
+
+    /**
+     * Obtiene una página de usuarios ordenados por ID a partir del cursor afterId.
+     * 
+     * Con sharding activo se ejecuta una vez por shard (ShardedUserPersistenceAdapter).
+     * 
+     * @param afterId Cursor de la página (0 para la primera).
+     * @param limit Tamaño máximo de la página.
+     * @return Lista de usuarios.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findPage(long afterId, int limit) {
+        return userRepository.findUsersAfter(afterId, Limit.of(limit));
+    }
+
+    // Mismo formato que UserResponse: el ID como cadena para no perder precisión en JSON
+    private String toPayload(User user) {
+        ObjectNode payload = objectMapper.createObjectNode()
+                .put("id", Long.toString(user.id()))
+                .put("nombre", user.nombre())
+                .put("apellido", user.apellido());
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento del usuario " + user.id(), e);
+        }
     }
 }
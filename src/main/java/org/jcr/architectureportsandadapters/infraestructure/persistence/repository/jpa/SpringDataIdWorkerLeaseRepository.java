@@ -0,0 +1,51 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.repository.jpa;
+
+import jakarta.persistence.LockModeType;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.entity.IdWorkerLeaseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repositorio JPA para los leases de worker ID.
+ *
+ * La base de datos decide qué instancia se queda un worker ID: el traspaso bloquea la fila
+ * (SELECT ... FOR UPDATE) para leer el expires_at del titular anterior y reemplazarlo de forma
+ * atómica, y el primer uso es un INSERT que solo puede ganar una instancia.
+ */
+public interface SpringDataIdWorkerLeaseRepository extends JpaRepository<IdWorkerLeaseEntity, Integer> {
+
+    /**
+     * Bloquea la fila de un worker ID hasta el final de la transacción.
+     * El llamante decide con expiresAt/owner si puede quedárselo (IdWorkerLeaseEntity.assignTo).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from id_worker_leases l where l.workerId = :workerId")
+    Optional<IdWorkerLeaseEntity> findForUpdate(@Param("workerId") int workerId);
+
+    /**
+     * Reserva un worker ID que nunca se había usado.
+     * Si otra instancia lo insertó antes, falla con DataIntegrityViolationException.
+     */
+    @Modifying
+    @Query(value = "insert into id_worker_leases (worker_id, owner, expires_at) values (:workerId, :owner, :expiresAt)",
+            nativeQuery = true)
+    int insert(@Param("workerId") int workerId, @Param("owner") String owner, @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Amplía el lease si sigue siendo de owner (con expiresAt = ahora lo libera).
+     *
+     * @return 1 si se renovó, 0 si el lease ya no es de owner.
+     */
+    @Modifying
+    @Query("""
+            update id_worker_leases l set l.expiresAt = :expiresAt
+            where l.workerId = :workerId and l.owner = :owner
+            """)
+    int renew(@Param("workerId") int workerId, @Param("owner") String owner, @Param("expiresAt") Instant expiresAt);
+}
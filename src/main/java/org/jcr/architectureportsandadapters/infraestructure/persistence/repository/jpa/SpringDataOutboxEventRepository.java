@@ -0,0 +1,61 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.repository.jpa;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.entity.OutboxEventEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio JPA para la tabla outbox de eventos de usuario.
+ */
+public interface SpringDataOutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * Reclama un lote de eventos pendientes para publicar.
+     *
+     * - PESSIMISTIC_WRITE + lock.timeout = -2: Hibernate genera "FOR UPDATE SKIP LOCKED"
+     *   cuando el dialecto lo soporta (H2, PostgreSQL, MySQL 8, Oracle), así varios relays
+     *   reclaman lotes disjuntos sin bloquearse. Si el dialecto no lo soporta, se usa FOR UPDATE.
+     * - NOT EXISTS: solo se reclama el evento más antiguo pendiente de cada usuario, de modo
+     *   que los eventos de un mismo usuario se publican siempre en orden.
+     * - nextAttemptAt: los eventos fallidos esperan su backoff antes de volver a reclamarse
+     *   (y mientras tanto bloquean a los posteriores del mismo usuario).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select e from outbox_usuarios e
+            where e.deliveredAt is null
+              and (e.nextAttemptAt is null or e.nextAttemptAt <= :now)
+              and not exists (select 1 from outbox_usuarios p
+                              where p.aggregateId = e.aggregateId
+                                and p.deliveredAt is null
+                                and p.id < e.id)
+            order by e.id""")
+    List<OutboxEventEntity> claimPending(@Param("now") Instant now, Limit limit);
+
+    /**
+     * Fecha de creación del evento pendiente más antiguo (lag del relay).
+     */
+    @Query("select min(e.createdAt) from outbox_usuarios e where e.deliveredAt is null")
+    Optional<Instant> findOldestPendingCreatedAt();
+
+    long countByDeliveredAtIsNull();
+
+    /**
+     * Elimina los eventos ya entregados antes del instante indicado.
+     */
+    @Modifying
+    @Query("delete from outbox_usuarios e where e.deliveredAt < :limite")
+    int deleteDeliveredBefore(@Param("limite") Instant limite);
+}
@@ -1,11 +1,34 @@
 package org.jcr.architectureportsandadapters.infraestructure.persistence.repository.jpa;
 
+import org.jcr.architectureportsandadapters.domain.model.User;
 import org.jcr.architectureportsandadapters.infraestructure.persistence.entity.UserEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositorio JPA para operaciones CRUD con usuarios.
  * Extiende JpaRepository para obtener operaciones básicas.
  */
 public interface SpringDataUserRepository extends JpaRepository<UserEntity, Long> {
+
+    /**
+     * Proyección de un usuario directamente al record de dominio.
+     * Evita instanciar y gestionar UserEntity en lecturas por ID.
+     */
+    @Query("select new org.jcr.architectureportsandadapters.domain.model.User(u.id, u.nombre, u.apellido) "
+            + "from usuarios u where u.id = :id")
+    Optional<User> findUserById(@Param("id") Long id);
+
+    /**
+     * Página de usuarios por cursor (keyset): recorre el índice de la PK desde afterId,
+     * sin OFFSET, así que el coste no crece con el número de páginas ya leídas.
+     */
+    @Query("select new org.jcr.architectureportsandadapters.domain.model.User(u.id, u.nombre, u.apellido) "
+            + "from usuarios u where u.id > :afterId order by u.id")
+    List<User> findUsersAfter(@Param("afterId") long afterId, Limit limit);
 }
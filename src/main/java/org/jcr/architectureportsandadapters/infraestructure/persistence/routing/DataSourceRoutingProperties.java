@@ -0,0 +1,47 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.routing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración del enrutado lectura/escritura (prefijo persistence.routing).
+ */
+@Data
+@ConfigurationProperties(prefix = "persistence.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * Activa el enrutado; si es false se usa spring.datasource como siempre.
+     */
+    private boolean enabled;
+
+    /**
+     * Tras una escritura, las lecturas del mismo cliente van al primario durante esta ventana.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(2);
+
+    private Pool primary = new Pool();
+
+    private List<Pool> replicas = new ArrayList<>();
+
+    /**
+     * Script de esquema opcional que se ejecuta en cada réplica al arrancar (solo entornos
+     * locales: en producción el esquema llega a las réplicas por replicación).
+     */
+    private String replicaSchemaLocation;
+
+    /**
+     * Conexión y tamaño de un pool.
+     */
+    @Data
+    public static class Pool {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,79 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración del enrutado primario/réplicas (persistence.routing.enabled=true).
+ *
+ * CONEXIONES:
+ * - Sustituye al DataSource autoconfigurado por Spring Boot
+ * - JPA (y por tanto UserJpaAdapter) usa el LazyConnectionDataSourceProxy @Primary
+ * - UserJpaAdapter marca sus lecturas con @Transactional(readOnly = true) para ir a réplicas
+ * - Si persistence.routing.replica-schema-location está definido, se ejecuta en cada réplica
+ */
+@Configuration
+@ConditionalOnProperty(name = "persistence.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class ReadReplicaRoutingConfig {
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(DataSourceRoutingProperties properties,
+                                                                 ReadYourWritesTracker readYourWritesTracker,
+                                                                 MeterRegistry meterRegistry,
+                                                                 ResourceLoader resourceLoader) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+        ResourceDatabasePopulator replicaSchema = properties.getReplicaSchemaLocation() == null ? null
+                : new ResourceDatabasePopulator(resourceLoader.getResource(properties.getReplicaSchemaLocation()));
+
+        HikariDataSource primary = pool(ReadWriteRoutingDataSource.PRIMARY, properties.getPrimary(), false, metrics);
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            HikariDataSource replica =
+                    pool(ReadWriteRoutingDataSource.replicaKey(i), properties.getReplicas().get(i), true, metrics);
+            if (replicaSchema != null) {
+                DatabasePopulatorUtils.execute(replicaSchema, replica);
+            }
+            replicas.add(replica);
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas, readYourWritesTracker, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    private static HikariDataSource pool(String name, DataSourceRoutingProperties.Pool properties,
+                                         boolean readOnly, MicrometerMetricsTrackerFactory metrics) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(properties.getUrl());
+        dataSource.setUsername(properties.getUsername());
+        dataSource.setPassword(properties.getPassword());
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setReadOnly(readOnly);
+        dataSource.setMetricsTrackerFactory(metrics);
+        return dataSource;
+    }
+}
@@ -0,0 +1,114 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jcr.architectureportsandadapters.shared.context.ClientContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que enruta cada conexión al primario o a una réplica.
+ *
+ * REGLAS DE ENRUTADO:
+ * 1. Transacción de escritura (no readOnly) -> primario; la escritura del cliente se anota
+ *    en afterCommit (una transacción revertida o aún en curso no fuerza lecturas al primario)
+ * 2. Transacción readOnly de un cliente que escribió hace menos de la ventana -> primario
+ *    (read-your-writes)
+ * 3. Resto de transacciones readOnly -> réplicas en round-robin
+ *
+ * IMPORTANTE: debe envolverse en LazyConnectionDataSourceProxy para que la conexión física
+ * se pida DESPUÉS de que Spring marque la transacción como readOnly.
+ *
+ * MÉTRICAS: persistence.routing.connections{pool, reason} por cada conexión enrutada;
+ * las métricas de cada pool las publica Hikari como hikaricp.connections.*{pool}.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final Counter writeCounter;
+    private final Counter readYourWritesCounter;
+    private final Counter primaryReadCounter;
+    private final Counter[] replicaCounters;
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary,
+                                      List<HikariDataSource> replicas,
+                                      ReadYourWritesTracker readYourWritesTracker,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicaCounters = new Counter[this.replicas.size()];
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(replicaKey(i), this.replicas.get(i));
+            replicaCounters[i] = routeCounter(meterRegistry, replicaKey(i), "read");
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.writeCounter = routeCounter(meterRegistry, PRIMARY, "write");
+        this.readYourWritesCounter = routeCounter(meterRegistry, PRIMARY, "read-your-writes");
+        this.primaryReadCounter = routeCounter(meterRegistry, PRIMARY, "read");
+    }
+
+    public static String replicaKey(int index) {
+        return "replica-" + index;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String clientId = ClientContext.get();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (clientId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWritesTracker.recordWrite(clientId);
+                    }
+                });
+            }
+            writeCounter.increment();
+            return PRIMARY;
+        }
+        if (readYourWritesTracker.requiresPrimary(clientId)) {
+            readYourWritesCounter.increment();
+            return PRIMARY;
+        }
+        if (replicas.isEmpty()) {
+            primaryReadCounter.increment();
+            return PRIMARY;
+        }
+        int index = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        replicaCounters[index].increment();
+        return replicaKey(index);
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String pool, String reason) {
+        return Counter.builder("persistence.routing.connections")
+                .tag("pool", pool)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,54 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.routing;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recuerda qué clientes escribieron recientemente para servir sus lecturas desde el primario
+ * mientras las réplicas pueden no tener aún esa escritura (retardo de replicación).
+ */
+public class ReadYourWritesTracker {
+
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(String clientId) {
+        if (clientId != null && windowNanos > 0) {
+            lastWriteNanos.put(clientId, System.nanoTime());
+        }
+    }
+
+    /**
+     * @return true si el cliente escribió dentro de la ventana y debe leer del primario.
+     */
+    public boolean requiresPrimary(String clientId) {
+        if (clientId == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteNanos.get(clientId);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < windowNanos) {
+            return true;
+        }
+        lastWriteNanos.remove(clientId, writtenAt);
+        return false;
+    }
+
+    /**
+     * Elimina las entradas caducadas de clientes que no volvieron a leer.
+     */
+    @Scheduled(fixedDelayString = "${persistence.routing.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        lastWriteNanos.entrySet().removeIf(entry -> now - entry.getValue() >= windowNanos);
+    }
+}
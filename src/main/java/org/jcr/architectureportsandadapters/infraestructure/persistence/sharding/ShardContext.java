@@ -0,0 +1,48 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * Shard activo en el hilo actual.
+ *
+ * Lo fijan ShardedUserPersistenceAdapter y OutboxRelay antes de abrir la transacción;
+ * lo leen ShardRoutingDataSource (qué BD usar) y SnowflakeIdGenerator (qué shard codificar).
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * @return Shard activo, o null si no se fijó ninguno.
+     */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Ejecuta la operación con el shard indicado activo y restaura el anterior al terminar.
+     */
+    public static <T> T callOnShard(int shard, Supplier<T> operation) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return operation.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void runOnShard(int shard, Runnable operation) {
+        callOnShard(shard, () -> {
+            operation.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.sharding;
+
+/**
+ * Número de shards activos. Sin sharding la topología es un único shard (el 0).
+ */
+public record ShardTopology(int shardCount) {
+
+    public static ShardTopology single() {
+        return new ShardTopology(1);
+    }
+}
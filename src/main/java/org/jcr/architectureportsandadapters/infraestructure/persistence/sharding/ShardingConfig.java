@@ -0,0 +1,89 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Configuración del sharding de usuarios (persistence.sharding.enabled=true).
+ *
+ * CONEXIONES:
+ * - Un pool Hikari por shard ("shard-N"), con métricas hikaricp.*{pool}
+ * - ShardRoutingDataSource elige el pool según ShardContext; JPA usa el proxy @Primary
+ * - El esquema se crea en CADA shard con persistence.sharding.schema-location
+ *   (Hibernate solo vería el shard 0, por eso el perfil desactiva ddl-auto)
+ * - ShardedUserPersistenceAdapter pasa a ser el UserPersistencePort principal
+ */
+@Configuration
+@ConditionalOnProperty(name = "persistence.sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardTopology shardTopology(ShardingProperties properties) {
+        int shardCount = properties.getShards().size();
+        if (shardCount == 0 || shardCount > SnowflakeIdGenerator.MAX_SHARDS) {
+            throw new IllegalStateException("persistence.sharding.shards debe tener entre 1 y "
+                    + SnowflakeIdGenerator.MAX_SHARDS + " shards, hay " + shardCount);
+        }
+        return new ShardTopology(shardCount);
+    }
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(ShardingProperties properties,
+                                                         ShardTopology shardTopology,
+                                                         MeterRegistry meterRegistry,
+                                                         ResourceLoader resourceLoader) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+        ResourceDatabasePopulator schema =
+                new ResourceDatabasePopulator(resourceLoader.getResource(properties.getSchemaLocation()));
+
+        List<HikariDataSource> shards = new ArrayList<>();
+        for (int i = 0; i < shardTopology.shardCount(); i++) {
+            HikariDataSource shard = pool("shard-" + i, properties.getShards().get(i), metrics);
+            DatabasePopulatorUtils.execute(schema, shard);
+            shards.add(shard);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean
+    public ExecutorService shardFanOutExecutor(ShardingProperties properties) {
+        return Executors.newFixedThreadPool(properties.getFanOutThreads(),
+                new CustomizableThreadFactory("shard-fanout-"));
+    }
+
+    private static HikariDataSource pool(String name, ShardingProperties.Shard properties,
+                                         MicrometerMetricsTrackerFactory metrics) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(properties.getUrl());
+        dataSource.setUsername(properties.getUsername());
+        dataSource.setPassword(properties.getPassword());
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setMetricsTrackerFactory(metrics);
+        return dataSource;
+    }
+}
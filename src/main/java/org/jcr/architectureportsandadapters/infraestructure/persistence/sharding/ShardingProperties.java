@@ -0,0 +1,44 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.sharding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración del sharding de usuarios (prefijo persistence.sharding).
+ * El número de shards es el número de entradas en persistence.sharding.shards.
+ */
+@Data
+@ConfigurationProperties(prefix = "persistence.sharding")
+public class ShardingProperties {
+
+    /**
+     * Activa el sharding; incompatible con persistence.routing.enabled.
+     */
+    private boolean enabled;
+
+    /**
+     * Hilos para las consultas que recorren todos los shards en paralelo.
+     */
+    private int fanOutThreads = 4;
+
+    /**
+     * Script de esquema que se ejecuta en cada shard al arrancar.
+     */
+    private String schemaLocation = "classpath:db/schema.sql";
+
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * Conexión y tamaño del pool de un shard.
+     */
+    @Data
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,131 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.sharding;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Generador de IDs estilo Snowflake que codifica el shard y la instancia en el propio ID.
+ *
+ * FORMATO (63 bits, siempre positivo):
+ *   | 41 bits milisegundos desde 2025-01-01 | 5 bits shard | 7 bits worker | 10 bits secuencia |
+ *
+ * - Hasta 32 shards, 128 instancias (worker ID, ver WorkerIdLease) y 1024 IDs por
+ *   milisegundo por instancia y shard; el rango de tiempo llega hasta 2094
+ * - Dos instancias nunca generan el mismo ID porque su worker ID es distinto
+ * - IDs crecientes en el tiempo (buena localidad en los índices)
+ * - shardOf(id) permite enrutar findById directamente al shard correcto
+ * - Superan 2^53: la API los escribe en JSON como cadenas (ver UserResponse)
+ *
+ * Nunca se emite un ID con marca de tiempo posterior al reloj: si la secuencia del
+ * milisegundo se agota (o el reloj retrocede, o el worker ID se acaba de traspasar y el
+ * titular anterior pudo usar este milisegundo) se reintenta FUERA del monitor hasta que
+ * el reloj avance, sin bloquear a los hilos que generan IDs para otros shards.
+ *
+ * El shard se toma de ShardContext; sin shard activo se usa el 0.
+ */
+@Component
+public class SnowflakeIdGenerator {
+
+    public static final int TIMESTAMP_BITS = 41;
+    public static final int SHARD_BITS = 5;
+    public static final int WORKER_BITS = 7;
+    public static final int SEQUENCE_BITS = 10;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+    public static final int MAX_WORKERS = 1 << WORKER_BITS;
+
+    private static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long SHARD_MASK = MAX_SHARDS - 1;
+    private static final long WORKER_MASK = MAX_WORKERS - 1;
+
+    // Valor de tryNextId cuando hay que esperar al siguiente milisegundo
+    private static final long RETRY = -1L;
+
+    private final WorkerIdLease workerIdLease;
+
+    // Secuencia independiente por shard: los IDs de shards distintos ya difieren en sus bits
+    private final long[] lastMillis = new long[MAX_SHARDS];
+    private final long[] sequence = new long[MAX_SHARDS];
+
+    public SnowflakeIdGenerator(WorkerIdLease workerIdLease) {
+        this.workerIdLease = workerIdLease;
+        Arrays.fill(lastMillis, -1L);
+    }
+
+    /**
+     * Genera un ID para el shard activo en ShardContext.
+     */
+    public long nextId() {
+        Integer shard = ShardContext.current();
+        return nextId(shard == null ? 0 : shard);
+    }
+
+    /**
+     * Genera un ID para el shard indicado.
+     */
+    public long nextId(int shard) {
+        if (shard < 0 || shard >= MAX_SHARDS) {
+            throw new IllegalArgumentException("Shard fuera de rango: " + shard);
+        }
+        long id;
+        while ((id = tryNextId(shard, System.currentTimeMillis())) == RETRY) {
+            // Espera activa breve (< 1 ms salvo que el reloj retroceda), sin el monitor
+            Thread.onSpinWait();
+        }
+        return id;
+    }
+
+    private synchronized long tryNextId(int shard, long now) {
+        if (now < lastMillis[shard]) {
+            // El reloj retrocedió: no se reutilizan milisegundos ya emitidos
+            return RETRY;
+        }
+        long next;
+        if (now == lastMillis[shard]) {
+            next = sequence[shard] + 1;
+            if (next > SEQUENCE_MASK) {
+                // Secuencia agotada en este milisegundo
+                return RETRY;
+            }
+        } else {
+            next = 0;
+        }
+        WorkerIdLease.Grant grant = workerIdLease.grant();
+        if (now < grant.notBeforeMillis()) {
+            // Worker ID recién traspasado: el titular anterior pudo emitir IDs hasta notBeforeMillis - 1
+            return RETRY;
+        }
+        if (now > grant.validUntilMillis()) {
+            throw new IllegalStateException("El lease del worker ID " + grant.workerId() + " ha caducado");
+        }
+        int worker = grant.workerId();
+
+        long timestamp = now - EPOCH_MILLIS;
+        if (timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("Rango de tiempo de los IDs agotado");
+        }
+        lastMillis[shard] = now;
+        sequence[shard] = next;
+        return (timestamp << (SHARD_BITS + WORKER_BITS + SEQUENCE_BITS))
+                | ((long) shard << (WORKER_BITS + SEQUENCE_BITS))
+                | ((long) worker << SEQUENCE_BITS)
+                | next;
+    }
+
+    /**
+     * Extrae el shard codificado en un ID.
+     */
+    public static int shardOf(long id) {
+        return (int) ((id >>> (WORKER_BITS + SEQUENCE_BITS)) & SHARD_MASK);
+    }
+
+    /**
+     * Extrae el worker ID codificado en un ID.
+     */
+    public static int workerOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & WORKER_MASK);
+    }
+}
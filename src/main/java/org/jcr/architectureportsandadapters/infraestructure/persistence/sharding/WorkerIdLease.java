@@ -0,0 +1,230 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.sharding;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.entity.IdWorkerLeaseEntity;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.repository.jpa.SpringDataIdWorkerLeaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Worker ID de esta instancia para SnowflakeIdGenerator.
+ *
+ * ORIGEN DEL WORKER ID:
+ * 1. persistence.id.worker-id fijo (p. ej. el ordinal de un StatefulSet): se usa tal cual
+ * 2. Sin valor: se reserva un lease en la tabla id_worker_leases al arrancar, se renueva
+ *    cada persistence.id.lease-renew-interval-ms y se libera al parar. Así las réplicas
+ *    autoescaladas nunca comparten worker ID mientras sus leases estén vigentes.
+ *
+ * TRASPASO DE UN WORKER ID:
+ * - El titular solo emite IDs con marca de tiempo <= expires_at de su lease (Grant.validUntilMillis)
+ * - Al liberarlo deja expires_at = instante de liberación (no EPOCH)
+ * - El nuevo titular lee el expires_at anterior y no emite IDs hasta el milisegundo siguiente
+ *   (Grant.notBeforeMillis), así que nunca repite un milisegundo del titular anterior, ni tras
+ *   una liberación ni tras un lease caducado que se reasigna en el mismo segundo
+ *
+ * La renovación usa un hilo PROPIO ("worker-id-lease-") y no @Scheduled: el planificador
+ * de Spring tiene un solo hilo compartido con OutboxRelay, cuyo sink puede tardar o
+ * colgarse; si eso retrasara la renovación más allá del lease, todas las altas fallarían.
+ *
+ * La tabla vive en la BD por defecto (el shard 0 con sharding, el primario con réplicas).
+ * Si el lease caduca sin renovarse, nextId falla hasta reservar otro: es preferible rechazar
+ * escrituras a generar IDs que otra instancia puede estar generando también.
+ * La duración del lease debe superar con holgura el desfase de reloj entre instancias.
+ */
+@Slf4j
+@Component
+public class WorkerIdLease {
+
+    /**
+     * Worker ID vigente y milisegundos en los que puede usarse: [notBeforeMillis, validUntilMillis].
+     */
+    public record Grant(int workerId, long notBeforeMillis, long validUntilMillis) {
+    }
+
+    private static final long BUSY = -1L;
+
+    private final SpringDataIdWorkerLeaseRepository leaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int configuredWorkerId;
+    private final Duration leaseDuration;
+    private final String owner;
+    private final long renewIntervalMillis;
+
+    private ScheduledExecutorService renewer;
+
+    private volatile Grant grant;
+
+    public WorkerIdLease(SpringDataIdWorkerLeaseRepository leaseRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${persistence.id.worker-id:-1}") int configuredWorkerId,
+                         @Value("${persistence.id.lease-duration:PT1M}") Duration leaseDuration,
+                         @Value("${persistence.id.lease-renew-interval-ms:20000}") long renewIntervalMillis) {
+        if (configuredWorkerId >= SnowflakeIdGenerator.MAX_WORKERS) {
+            throw new IllegalStateException("persistence.id.worker-id debe estar entre 0 y "
+                    + (SnowflakeIdGenerator.MAX_WORKERS - 1) + ", es " + configuredWorkerId);
+        }
+        this.leaseRepository = leaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.configuredWorkerId = configuredWorkerId;
+        this.leaseDuration = leaseDuration;
+        this.renewIntervalMillis = renewIntervalMillis;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @PostConstruct
+    void start() {
+        acquire();
+        if (configuredWorkerId < 0) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("worker-id-lease-");
+            threadFactory.setDaemon(true);
+            renewer = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            renewer.scheduleWithFixedDelay(this::renewSafely,
+                    renewIntervalMillis, renewIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void acquire() {
+        // Empezar en una posición aleatoria reduce las colisiones entre instancias que arrancan a la vez
+        acquire(ThreadLocalRandom.current().nextInt(SnowflakeIdGenerator.MAX_WORKERS));
+    }
+
+    void acquire(int start) {
+        if (configuredWorkerId >= 0) {
+            grant = new Grant(configuredWorkerId, 0, Long.MAX_VALUE);
+            return;
+        }
+        for (int i = 0; i < SnowflakeIdGenerator.MAX_WORKERS; i++) {
+            int candidate = (start + i) % SnowflakeIdGenerator.MAX_WORKERS;
+            if (tryAcquire(candidate)) {
+                log.info("Worker ID {} reservado por {} hasta {}", candidate, owner,
+                        Instant.ofEpochMilli(grant.validUntilMillis()));
+                return;
+            }
+        }
+        throw new IllegalStateException("No hay worker IDs libres en id_worker_leases ("
+                + SnowflakeIdGenerator.MAX_WORKERS + " en uso)");
+    }
+
+    /**
+     * @return Worker ID y ventana de validez actuales (los comprueba SnowflakeIdGenerator).
+     * @throws IllegalStateException si todavía no se reservó ningún worker ID.
+     */
+    public Grant grant() {
+        Grant current = grant;
+        if (current == null) {
+            throw new IllegalStateException("No hay worker ID reservado");
+        }
+        return current;
+    }
+
+    /**
+     * @return Worker ID vigente de esta instancia.
+     * @throws IllegalStateException si el lease caducó sin renovarse.
+     */
+    public int workerId() {
+        Grant current = grant();
+        if (System.currentTimeMillis() > current.validUntilMillis()) {
+            throw new IllegalStateException("El lease del worker ID " + current.workerId() + " ha caducado");
+        }
+        return current.workerId();
+    }
+
+    /**
+     * Renueva el lease; si otra instancia se lo quedó (caducó sin renovar), reserva otro.
+     */
+    public void renew() {
+        if (configuredWorkerId >= 0) {
+            return;
+        }
+        Grant current = grant();
+        Instant expiresAt = Instant.now().plus(leaseDuration);
+        if (onLeaseDatabase(() -> leaseRepository.renew(current.workerId(), owner, expiresAt)) == 1) {
+            grant = new Grant(current.workerId(), current.notBeforeMillis(), expiresAt.toEpochMilli());
+            return;
+        }
+        log.warn("Lease del worker ID {} perdido; se reserva uno nuevo", current.workerId());
+        acquire();
+    }
+
+    // Una excepción cancelaría las ejecuciones siguientes del ScheduledExecutorService
+    private void renewSafely() {
+        try {
+            renew();
+        } catch (RuntimeException e) {
+            log.error("No se pudo renovar el lease del worker ID: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void release() {
+        if (renewer != null) {
+            renewer.shutdownNow();
+        }
+        Grant current = grant;
+        if (configuredWorkerId >= 0 || current == null) {
+            return;
+        }
+        // Primero se deja de emitir IDs y después se fija expires_at: todo ID ya emitido
+        // tiene una marca de tiempo <= releasedAt, y el siguiente titular empezará después
+        grant = new Grant(current.workerId(), current.notBeforeMillis(), Long.MIN_VALUE);
+        Instant releasedAt = Instant.now();
+        onLeaseDatabase(() -> leaseRepository.renew(current.workerId(), owner, releasedAt));
+    }
+
+    private boolean tryAcquire(int candidate) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(leaseDuration);
+
+        // Primer milisegundo utilizable; null si la fila no existe, BUSY si otro la tiene vigente
+        Long notBefore = onLeaseDatabase(() -> leaseRepository.findForUpdate(candidate)
+                .map(lease -> takeOver(lease, now, expiresAt))
+                .orElse(null));
+        if (notBefore == null) {
+            try {
+                onLeaseDatabase(() -> leaseRepository.insert(candidate, owner, expiresAt));
+            } catch (DataIntegrityViolationException e) {
+                // Otra instancia lo insertó a la vez
+                return false;
+            }
+            notBefore = 0L;
+        }
+        if (notBefore == BUSY) {
+            return false;
+        }
+        grant = new Grant(candidate, notBefore, expiresAt.toEpochMilli());
+        return true;
+    }
+
+    // Se ejecuta con la fila bloqueada: expires_at todavía es el del titular anterior
+    private long takeOver(IdWorkerLeaseEntity lease, Instant now, Instant expiresAt) {
+        if (!lease.getExpiresAt().isBefore(now) && !owner.equals(lease.getOwner())) {
+            return BUSY;
+        }
+        long previousExpiry = lease.getExpiresAt().toEpochMilli();
+        lease.assignTo(owner, expiresAt);
+        return previousExpiry + 1;
+    }
+
+    // Cada operación en su propia transacción y siempre contra la BD por defecto (shard 0)
+    private <T> T onLeaseDatabase(Supplier<T> operation) {
+        return ShardContext.callOnShard(0, () -> transactionTemplate.execute(status -> operation.get()));
+    }
+}
@@ -0,0 +1,18 @@
+package org.jcr.architectureportsandadapters.port.in;
+
+import org.jcr.architectureportsandadapters.domain.model.UserHotKey;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada para consultar los usuarios más consultados.
+ * Define el contrato para obtener las estadísticas de acceso por ID.
+ */
+public interface GetHotUsersPort {
+    /**
+     * Obtiene los IDs de usuario más consultados.
+     * @param limit Número máximo de resultados.
+     * @return IDs ordenados de mayor a menor frecuencia estimada.
+     */
+    List<UserHotKey> findHottest(int limit);
+}
@@ -2,6 +2,7 @@ package org.jcr.architectureportsandadapters.port.in;
 
 import org.jcr.architectureportsandadapters.domain.model.User;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,4 +16,12 @@ public interface GetUserPort {
      * @return Usuario encontrado, si existe.
      */
     Optional<User> findById(Long id);
+
+    /**
+     * Obtiene una página de usuarios ordenada por ID (paginación por cursor).
+     * @param afterId Cursor: se devuelven los usuarios con ID mayor que este (0 para empezar).
+     * @param limit Tamaño máximo de la página.
+     * @return Usuarios de la página; si hay menos de limit, no quedan más.
+     */
+    List<User> findPage(long afterId, int limit);
 }
@@ -0,0 +1,13 @@
+package org.jcr.architectureportsandadapters.port.in;
+
+/**
+ * Puerto de entrada para registrar las consultas a usuarios.
+ * Define el contrato que alimenta las estadísticas de GetHotUsersPort.
+ */
+public interface RecordUserAccessPort {
+    /**
+     * Registra una consulta al usuario indicado.
+     * @param userId ID consultado, exista o no el usuario.
+     */
+    void recordAccess(Long userId);
+}
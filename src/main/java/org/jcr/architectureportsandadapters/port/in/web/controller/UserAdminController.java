@@ -0,0 +1,46 @@
+package org.jcr.architectureportsandadapters.port.in.web.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.jcr.architectureportsandadapters.application.mapper.UserMapper;
+import org.jcr.architectureportsandadapters.port.in.GetHotUsersPort;
+import org.jcr.architectureportsandadapters.port.in.web.dto.response.UserHotKeyResponse;
+import org.jcr.architectureportsandadapters.shared.response.ApiResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controlador REST de administración para las estadísticas de acceso a usuarios.
+ * 
+ * ADAPTADOR PRIMARIO: traduce GET /api/v1/admin/users/hot-keys en una llamada
+ * al puerto de entrada GetHotUsersPort (implementado por UserHotKeyService).
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/admin/users")
+public class UserAdminController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final GetHotUsersPort getHotUsersPort;
+    private final UserMapper userMapper;
+
+    /**
+     * Endpoint para obtener los IDs de usuario más consultados.
+     *
+     * @param limit Número máximo de resultados (1-100).
+     * @return IDs con su frecuencia estimada, de mayor a menor.
+     */
+    @GetMapping("/hot-keys")
+    public ApiResponse<List<UserHotKeyResponse>> getHotKeys(@RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit debe estar entre 1 y " + MAX_LIMIT);
+        }
+        final List<UserHotKeyResponse> response =
+                userMapper.toHotKeyResponseList(getHotUsersPort.findHottest(limit));
+        return ApiResponse.success(response, "Usuarios más consultados");
+    }
+}
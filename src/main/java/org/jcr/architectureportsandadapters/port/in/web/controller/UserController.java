@@ -1,16 +1,23 @@
 package org.jcr.architectureportsandadapters.port.in.web.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.jcr.architectureportsandadapters.application.mapper.UserMapper;
 import org.jcr.architectureportsandadapters.port.in.CreateUserPort;
 import org.jcr.architectureportsandadapters.port.in.GetUserPort;
 import org.jcr.architectureportsandadapters.domain.model.User;
 import org.jcr.architectureportsandadapters.port.in.web.dto.request.UserRequest;
+import org.jcr.architectureportsandadapters.port.in.web.dto.response.UserPageResponse;
 import org.jcr.architectureportsandadapters.port.in.web.dto.response.UserResponse;
+import org.jcr.architectureportsandadapters.port.in.web.serializer.UserResponseWriter;
 import org.jcr.architectureportsandadapters.shared.response.ApiResponse;
 import org.jcr.architectureportsandadapters.shared.exception.UserNotFoundException;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.List;
+
 /**
  * Controlador REST para gestionar operaciones relacionadas con usuarios.
  * 
@@ -38,6 +45,8 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/v1/users")
 public class UserController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     // PUERTOS DE ENTRADA: Interfaces que definen los casos de uso
     // Spring inyectará automáticamente UserService que implementa estos puertos
     private final CreateUserPort createUserPort;  // Caso de uso: Crear usuario
@@ -47,6 +56,9 @@ public class UserController {
     // Convierte DTOs ↔ Objetos de Dominio ↔ Entidades JPA
     private final UserMapper userMapper;
 
+    // SERIALIZADOR DIRECTO: Respuesta de GET /{id} sin DTOs intermedios
+    private final UserResponseWriter userResponseWriter;
+
     /**
      * Endpoint para crear un nuevo usuario.
      * 
@@ -86,30 +98,54 @@ public class UserController {
     /**
      * Endpoint para obtener información de un usuario por ID.
      * 
-     * FLUJO DE CONEXIÓN PARA CONSULTA:
+     * FLUJO DE CONEXIÓN PARA CONSULTA (ruta ligera):
      * 1. HTTP GET /api/v1/users/{id} -> Controller
      * 2. Controller -> Puerto de Entrada (getUserPort.findById)
      * 3. Puerto -> UserService.findById()
      * 4. UserService -> Puerto de Salida (userPersistencePort.findById)
      * 5. Puerto de Salida -> UserJpaAdapter.findById()
-     * 6. Adapter -> SpringDataUserRepository.findById() -> BD
-     * 7. BD -> UserEntity -> Mapper -> User (Dominio) -> Controller
-     * 8. Controller -> Mapper -> UserResponse -> HTTP JSON
+     * 6. Adapter -> SpringDataUserRepository.findUserById() -> BD -> User (proyección)
+     * 7. Controller -> UserResponseWriter -> HTTP JSON
+     * 
+     * Es la consulta más frecuente: se omiten UserEntity, UserResponse y ApiResponse
+     * y el JSON se escribe directamente con el mismo formato que el resto de endpoints.
      *
      * @param id ID del usuario.
-     * @return Respuesta con datos del usuario.
+     * @param httpResponse Respuesta HTTP donde se escribe el JSON.
      */
     @GetMapping("/{id}")
-    public ApiResponse<UserResponse> getUser(@PathVariable Long id) {
+    public void getUser(@PathVariable Long id, HttpServletResponse httpResponse) throws IOException {
         // PASO 1: Llamada al Puerto de Entrada para consulta
         // El Optional permite manejar casos donde el usuario no existe
         // Si no se encuentra, lanza UserNotFoundException (manejo global de errores)
         final User user = getUserPort.findById(id).orElseThrow(() -> new UserNotFoundException(id));
         
-        // PASO 2: Transformación de Dominio a DTO de respuesta
-        final UserResponse response = userMapper.toResponse(user);
-        
-        // PASO 3: Respuesta HTTP con formato estandarizado
-        return ApiResponse.success(response, "Usuario encontrado");
+        // PASO 2: Escritura directa de la respuesta con formato estandarizado
+        httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        userResponseWriter.writeSuccess(user, "Usuario encontrado", httpResponse.getOutputStream());
+    }
+
+    /**
+     * Endpoint para listar usuarios por páginas ordenadas por ID.
+     * 
+     * PAGINACIÓN POR CURSOR: la primera página se pide sin "after"; las siguientes con
+     * after = nextCursor de la respuesta anterior, hasta que nextCursor sea null.
+     * 
+     * FLUJO: HTTP GET /api/v1/users?after&limit -> getUserPort.findPage() -> UserService -> UserPersistencePort
+     *
+     * @param after Último ID de la página anterior (0 para la primera).
+     * @param limit Tamaño de la página, entre 1 y 100.
+     * @return Respuesta con la página de usuarios y el cursor de la siguiente.
+     */
+    @GetMapping
+    public ApiResponse<UserPageResponse> listUsers(@RequestParam(defaultValue = "0") long after,
+                                                   @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        final List<User> users = getUserPort.findPage(after, limit);
+        final Long nextCursor = users.size() < limit ? null : users.get(users.size() - 1).id();
+        final UserPageResponse response = new UserPageResponse(userMapper.toResponseList(users), nextCursor);
+        return ApiResponse.success(response, "Usuarios encontrados");
     }
 }
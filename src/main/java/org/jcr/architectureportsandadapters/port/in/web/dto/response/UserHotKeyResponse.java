@@ -0,0 +1,13 @@
+package org.jcr.architectureportsandadapters.port.in.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * DTO para las estadísticas de acceso de un usuario.
+ * Contiene el ID consultado (como cadena, igual que UserResponse) y su frecuencia estimada.
+ */
+public record UserHotKeyResponse(
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long userId,
+        long estimatedHits
+) {
+}
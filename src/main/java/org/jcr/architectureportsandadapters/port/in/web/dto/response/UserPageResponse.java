@@ -0,0 +1,16 @@
+package org.jcr.architectureportsandadapters.port.in.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.util.List;
+
+/**
+ * DTO para una página del listado de usuarios.
+ * nextCursor es el valor de "after" para pedir la siguiente página, o null si no hay más;
+ * es un ID de usuario, así que se escribe como cadena igual que UserResponse.id.
+ */
+public record UserPageResponse(
+        List<UserResponse> items,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long nextCursor
+) {
+}
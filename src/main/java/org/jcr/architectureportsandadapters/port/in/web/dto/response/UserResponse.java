@@ -1,11 +1,15 @@
 package org.jcr.architectureportsandadapters.port.in.web.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 /**
  * DTO para las respuestas de información de usuario.
  * Contiene los datos del usuario para ser devueltos al cliente.
+ * El ID (Snowflake, 63 bits) se escribe como cadena: como número JSON perdería
+ * precisión por encima de 2^53 en clientes JavaScript.
  */
 public record UserResponse(
-        Long id,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long id,
         String nombre,
         String apellido
 ) {
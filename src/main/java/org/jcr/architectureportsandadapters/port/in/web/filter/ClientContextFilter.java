@@ -0,0 +1,41 @@
+package org.jcr.architectureportsandadapters.port.in.web.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jcr.architectureportsandadapters.shared.context.ClientContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filtro HTTP que identifica al cliente de cada petición y lo publica en ClientContext.
+ *
+ * IDENTIFICACIÓN:
+ * - Solo la cabecera X-Client-Id. Sin ella la petición no tiene cliente y sus lecturas
+ *   no tienen garantía read-your-writes (pueden ir a una réplica con retardo)
+ * - No se usa la dirección remota: detrás de un balanceador todos los clientes
+ *   compartirían la IP del balanceador y, con ella, la ventana de lecturas al primario
+ */
+@Component
+public class ClientContextFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        if (StringUtils.hasText(clientId)) {
+            ClientContext.set(clientId);
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ClientContext.clear();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.jcr.architectureportsandadapters.port.in.web.serializer;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jcr.architectureportsandadapters.domain.model.User;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Serializador directo de la respuesta de usuario.
+ *
+ * Escribe el mismo JSON que ApiResponse.success(UserResponse, mensaje) pero campo a campo
+ * con JsonGenerator, sin crear UserResponse, ApiResponse ni su builder, y sin la
+ * introspección de Jackson por reflexión:
+ *
+ *   {"success":true,"message":"...","data":{"id":"1","nombre":"...","apellido":"..."},"timestamp":...}
+ *
+ * El ID va como cadena, igual que en UserResponse (los IDs Snowflake superan 2^53).
+ *
+ * USADO EN: UserController.getUser() (ruta caliente de lectura)
+ */
+@Component
+public class UserResponseWriter {
+
+    private final JsonFactory jsonFactory;
+
+    public UserResponseWriter(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Escribe la respuesta exitosa con los datos del usuario.
+     *
+     * @param user    Usuario a devolver.
+     * @param message Mensaje descriptivo de la operación.
+     * @param out     Destino (normalmente el cuerpo de la respuesta HTTP); no se cierra.
+     */
+    public void writeSuccess(User user, String message, OutputStream out) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", message);
+            generator.writeObjectFieldStart("data");
+            if (user.id() == null) {
+                generator.writeNullField("id");
+            } else {
+                generator.writeStringField("id", Long.toString(user.id()));
+            }
+            generator.writeStringField("nombre", user.nombre());
+            generator.writeStringField("apellido", user.apellido());
+            generator.writeEndObject();
+            generator.writeNumberField("timestamp", System.currentTimeMillis());
+            generator.writeEndObject();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.jcr.architectureportsandadapters.port.out;
 
 import org.jcr.architectureportsandadapters.domain.model.User;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,4 +23,12 @@ public interface UserPersistencePort {
      * @return Usuario encontrado, si existe.
      */
     Optional<User> findById(Long id);
+
+    /**
+     * Obtiene los primeros limit usuarios con ID mayor que afterId, ordenados por ID.
+     * @param afterId Cursor de la página (0 para la primera).
+     * @param limit Tamaño máximo de la página.
+     * @return Lista de usuarios.
+     */
+    List<User> findPage(long afterId, int limit);
 }
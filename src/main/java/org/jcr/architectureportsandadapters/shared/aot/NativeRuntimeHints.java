@@ -0,0 +1,71 @@
+package org.jcr.architectureportsandadapters.shared.aot;
+
+import org.jcr.architectureportsandadapters.domain.model.User;
+import org.jcr.architectureportsandadapters.infraestructure.messaging.outbox.OutboxMessage;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.entity.IdWorkerLeaseEntity;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.entity.OutboxEventEntity;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.entity.UserEntity;
+import org.jcr.architectureportsandadapters.port.in.web.dto.request.UserRequest;
+import org.jcr.architectureportsandadapters.port.in.web.dto.response.UserHotKeyResponse;
+import org.jcr.architectureportsandadapters.port.in.web.dto.response.UserPageResponse;
+import org.jcr.architectureportsandadapters.port.in.web.dto.response.UserResponse;
+import org.jcr.architectureportsandadapters.shared.response.ApiResponse;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Pistas de alcanzabilidad (reachability hints) para la imagen nativa GraalVM.
+ *
+ * QUÉ CUBRE:
+ * - UserEntity / OutboxEventEntity / IdWorkerLeaseEntity: Hibernate instancia las entidades
+ *   y accede a sus campos por reflexión
+ * - User: Hibernate invoca su constructor canónico por reflexión en las consultas
+ *   "select new ...User(...)" de SpringDataUserRepository
+ * - UserMapperImpl: clase generada por MapStruct; se referencia por nombre porque
+ *   no existe en el código fuente
+ * - ApiResponse / ErrorDetails / UserRequest / UserResponse / UserPageResponse /
+ *   UserHotKeyResponse: Jackson (de)serializa estos tipos por reflexión en cada petición HTTP
+ * - OutboxMessage: Jackson lo serializa en FileOutboxEventSink
+ *
+ * NativeRuntimeHintsTests comprueba el registro con RuntimeHintsPredicates.
+ *
+ * Spring AOT ya descubre la mayoría de estos tipos al analizar los beans; las pistas
+ * explícitas evitan fallos en tiempo de ejecución si el análisis no los alcanza.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String USER_MAPPER_IMPL =
+            "org.jcr.architectureportsandadapters.application.mapper.UserMapperImpl";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Entidades JPA: constructor sin argumentos + acceso a campos
+        for (Class<?> type : new Class<?>[]{
+                UserEntity.class, OutboxEventEntity.class, IdWorkerLeaseEntity.class}) {
+            hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+
+        // Proyección JPQL al record de dominio: constructor canónico
+        hints.reflection().registerType(User.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // Implementación generada por MapStruct
+        hints.reflection().registerType(TypeReference.of(USER_MAPPER_IMPL),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // Tipos serializados por Jackson
+        for (Class<?> type : new Class<?>[]{
+                ApiResponse.class, ApiResponse.ErrorDetails.class, UserRequest.class, UserResponse.class,
+                UserPageResponse.class, UserHotKeyResponse.class, OutboxMessage.class}) {
+            hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.jcr.architectureportsandadapters.shared.context;
+
+/**
+ * Identificador del cliente que origina la petición en curso (por hilo).
+ *
+ * Lo establece ClientContextFilter al recibir cada petición HTTP y lo consultan
+ * las capas inferiores (por ejemplo, el enrutado a réplicas para garantizar
+ * read-your-writes) sin acoplarse a la API de Servlet.
+ */
+public final class ClientContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ClientContext() {
+    }
+
+    public static void set(String clientId) {
+        CURRENT.set(clientId);
+    }
+
+    /**
+     * @return Identificador del cliente actual, o null fuera de una petición HTTP o si no envió X-Client-Id.
+     */
+    public static String get() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
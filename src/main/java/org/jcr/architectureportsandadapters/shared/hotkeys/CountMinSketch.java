@@ -0,0 +1,96 @@
+package org.jcr.architectureportsandadapters.shared.hotkeys;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Count-Min Sketch concurrente para estimar frecuencias con memoria fija.
+ *
+ * - depth filas x width contadores (width potencia de 2)
+ * - Cada clave incrementa un contador por fila; la estimación es el mínimo de sus contadores
+ * - La estimación nunca subestima: solo puede sobrestimar por colisiones
+ * - Actualizaciones sin locks
+ *
+ * CONTADORES LongAdder Y NO AtomicLongArray:
+ * Con una clave caliente todos los hilos incrementan las MISMAS depth celdas; con un CAS
+ * por celda fallan y reintentan en bucle. LongAdder reparte los incrementos concurrentes
+ * entre celdas internas por hilo (solo las crea si hay contención) y suma al leer: la
+ * escritura escala con los hilos a cambio de lecturas algo más caras, que es lo que
+ * conviene aquí (una lectura por fila y acceso, frente a lecturas de top() muy raras).
+ * Memoria: depth * width objetos LongAdder (~32 bytes sin contención, más las celdas
+ * de los contadores disputados).
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int widthMask;
+    private final long[] seeds;
+    private final LongAdder[] counters;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException(
+                    "depth debe ser >= 1 y width potencia de 2: depth=" + depth + ", width=" + width);
+        }
+        this.depth = depth;
+        this.widthMask = width - 1;
+        this.seeds = new long[depth];
+        for (int row = 0; row < depth; row++) {
+            seeds[row] = mix(0x9E3779B97F4A7C15L * (row + 1));
+        }
+        this.counters = new LongAdder[depth * width];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Suma una ocurrencia de la clave.
+     *
+     * @return Frecuencia estimada tras el incremento.
+     */
+    public long increment(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            LongAdder counter = counters[index(row, key)];
+            counter.increment();
+            estimate = Math.min(estimate, counter.sum());
+        }
+        return estimate;
+    }
+
+    /**
+     * @return Frecuencia estimada de la clave.
+     */
+    public long estimate(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[index(row, key)].sum());
+        }
+        return estimate;
+    }
+
+    /**
+     * Divide todos los contadores entre 2 (decaimiento exponencial de la historia).
+     * Se resta la mitad en vez de fijar el valor: los incrementos concurrentes no se pierden.
+     */
+    public void halve() {
+        for (LongAdder counter : counters) {
+            long value = counter.sum();
+            counter.add(-(value - (value >>> 1)));
+        }
+    }
+
+    private int index(int row, long key) {
+        return row * (widthMask + 1) + (int) (mix(key ^ seeds[row]) & widthMask);
+    }
+
+    // Finalizador de MurmurHash3 (64 bits): buena dispersión para IDs consecutivos
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,116 @@
+package org.jcr.architectureportsandadapters.shared.hotkeys;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detector de claves calientes (heavy hitters): Count-Min Sketch + top-K.
+ *
+ * FUNCIONAMIENTO:
+ * 1. Cada acceso incrementa el sketch (sin locks)
+ * 2. Si la clave ya está en el top-K no hay más trabajo (camino rápido sin locks)
+ * 3. Si su estimación supera el umbral de admisión (la menor del top-K), se toma el lock
+ *    y se sustituye a la clave más fría del top-K
+ *
+ * Memoria fija: el sketch más K claves. El lock solo se toca cuando una clave nueva
+ * entra en el top-K, no en cada acceso a una clave ya caliente.
+ */
+public class HeavyHittersTracker {
+
+    /**
+     * Clave y frecuencia estimada.
+     */
+    public record HotKey(long key, long estimate) {
+    }
+
+    private final CountMinSketch sketch;
+    private final int capacity;
+    private final Set<Long> topKeys = ConcurrentHashMap.newKeySet();
+    private final Object lock = new Object();
+
+    // Estimación mínima dentro del top-K cuando está lleno (0 mientras haya hueco)
+    private volatile long admissionThreshold;
+
+    public HeavyHittersTracker(int capacity, int sketchDepth, int sketchWidth) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("La capacidad del top-K debe ser positiva: " + capacity);
+        }
+        this.capacity = capacity;
+        this.sketch = new CountMinSketch(sketchDepth, sketchWidth);
+    }
+
+    /**
+     * Registra un acceso a la clave.
+     */
+    public void record(long key) {
+        long estimate = sketch.increment(key);
+        if (estimate <= admissionThreshold || topKeys.contains(key)) {
+            return;
+        }
+        synchronized (lock) {
+            if (topKeys.contains(key)) {
+                return;
+            }
+            if (topKeys.size() < capacity) {
+                topKeys.add(key);
+            } else {
+                HotKey coldest = coldest();
+                if (estimate <= coldest.estimate()) {
+                    admissionThreshold = coldest.estimate();
+                    return;
+                }
+                topKeys.remove(coldest.key());
+                topKeys.add(key);
+            }
+            admissionThreshold = topKeys.size() < capacity ? 0 : coldest().estimate();
+        }
+    }
+
+    /**
+     * @return Hasta limit claves más frecuentes, de mayor a menor estimación.
+     */
+    public List<HotKey> top(int limit) {
+        PriorityQueue<HotKey> heap = new PriorityQueue<>(Comparator.comparingLong(HotKey::estimate));
+        for (Long key : topKeys) {
+            long estimate = sketch.estimate(key);
+            if (estimate > 0) {
+                heap.offer(new HotKey(key, estimate));
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+        }
+        List<HotKey> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingLong(HotKey::estimate).reversed());
+        return result;
+    }
+
+    /**
+     * Reduce a la mitad todas las frecuencias para que dominen los accesos recientes.
+     */
+    public void decay() {
+        sketch.halve();
+        synchronized (lock) {
+            topKeys.removeIf(key -> sketch.estimate(key) == 0);
+            admissionThreshold = topKeys.size() < capacity ? 0 : coldest().estimate();
+        }
+    }
+
+    // Debe llamarse con el lock tomado y el top-K no vacío
+    private HotKey coldest() {
+        long coldestKey = 0;
+        long coldestEstimate = Long.MAX_VALUE;
+        for (Long key : topKeys) {
+            long estimate = sketch.estimate(key);
+            if (estimate < coldestEstimate) {
+                coldestKey = key;
+                coldestEstimate = estimate;
+            }
+        }
+        return new HotKey(coldestKey, coldestEstimate);
+    }
+}
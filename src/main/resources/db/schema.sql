@@ -0,0 +1,26 @@
+-- Esquema de los shards y réplicas locales (equivalente al que genera Hibernate para UserEntity, OutboxEventEntity e IdWorkerLeaseEntity)
+CREATE TABLE IF NOT EXISTS usuarios (
+    id       BIGINT PRIMARY KEY,
+    nombre   VARCHAR(255),
+    apellido VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS outbox_usuarios (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_id BIGINT                      NOT NULL,
+    event_type   VARCHAR(50)                 NOT NULL,
+    payload      VARCHAR(4000)               NOT NULL,
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    delivered_at TIMESTAMP(6) WITH TIME ZONE,
+    attempts     INTEGER                     NOT NULL,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE,
+    last_error   VARCHAR(500)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_usuarios_pendientes ON outbox_usuarios (delivered_at, aggregate_id);
+
+CREATE TABLE IF NOT EXISTS id_worker_leases (
+    worker_id  INTEGER PRIMARY KEY,
+    owner      VARCHAR(100)                NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
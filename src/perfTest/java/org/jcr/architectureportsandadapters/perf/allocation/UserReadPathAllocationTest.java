@@ -0,0 +1,147 @@
+package org.jcr.architectureportsandadapters.perf.allocation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jcr.architectureportsandadapters.application.mapper.UserMapper;
+import org.jcr.architectureportsandadapters.domain.model.User;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.repository.jpa.SpringDataUserRepository;
+import org.jcr.architectureportsandadapters.port.in.CreateUserPort;
+import org.jcr.architectureportsandadapters.port.in.web.serializer.UserResponseWriter;
+import org.jcr.architectureportsandadapters.shared.response.ApiResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de asignación de memoria (bytes/op) de la ruta GET /api/v1/users/{id}.
+ *
+ * Compara, en el hilo actual y tras calentar el JIT:
+ * - Persistencia: findById + UserMapper (UserEntity gestionada) frente a la proyección findUserById
+ * - Serialización: UserMapper.toResponse + ApiResponse.success + ObjectMapper frente a UserResponseWriter
+ *
+ * Los resultados se escriben en build/reports/perf/allocation-summary.txt.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.jcr.architectureportsandadapters=INFO"
+})
+class UserReadPathAllocationTest {
+
+    private static final int WARMUP_OPS = 20_000;
+    private static final int MEASURED_OPS = 50_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private CreateUserPort createUserPort;
+
+    @Autowired
+    private SpringDataUserRepository userRepository;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private UserResponseWriter userResponseWriter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        user = createUserPort.createUser(new User(null, "Juan", "Pérez"));
+    }
+
+    @Test
+    void leanReadPathAllocatesLessPerRequest() {
+        Long id = user.id();
+        // Descarta los bytes y tolera close() (ObjectMapper cierra el destino por defecto)
+        OutputStream sink = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+
+        long entityPath = bytesPerOp(() -> readOnly.execute(status ->
+                userRepository.findById(id).map(userMapper::toUserDomain).orElseThrow()));
+        long projectionPath = bytesPerOp(() -> readOnly.execute(status ->
+                userRepository.findUserById(id).orElseThrow()));
+
+        long envelopePath = bytesPerOp(() -> write(() -> objectMapper.writeValue(sink,
+                ApiResponse.success(userMapper.toResponse(user), "Usuario encontrado"))));
+        long directWritePath = bytesPerOp(() -> write(() ->
+                userResponseWriter.writeSuccess(user, "Usuario encontrado", sink)));
+
+        String summary = String.format(
+                "path                 bytes/op%n"
+                        + "persistence.entity   %8d%n"
+                        + "persistence.project  %8d%n"
+                        + "serialize.envelope   %8d%n"
+                        + "serialize.direct     %8d%n",
+                entityPath, projectionPath, envelopePath, directWritePath);
+        System.out.print(summary);
+        writeReport(summary);
+
+        assertThat(projectionPath).isLessThan(entityPath);
+        assertThat(directWritePath).isLessThan(envelopePath);
+    }
+
+    private static long bytesPerOp(Runnable operation) {
+        for (int i = 0; i < WARMUP_OPS; i++) {
+            operation.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_OPS; i++) {
+            operation.run();
+        }
+        return (THREADS.getThreadAllocatedBytes(threadId) - before) / MEASURED_OPS;
+    }
+
+    private interface IoOperation {
+        void run() throws IOException;
+    }
+
+    private static void write(IoOperation operation) {
+        try {
+            operation.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeReport(String summary) {
+        Path directory = Path.of(System.getProperty("perf.reportsDir", "build/reports/perf"));
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve("allocation-summary.txt"), summary, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.jcr.architectureportsandadapters.perf.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Resultado de una ejecución de OpenModelLoadGenerator.
+ *
+ * @param targetRate  Tasa de llegada planificada (peticiones/segundo).
+ * @param elapsed     Duración real de la ejecución, incluida la espera de las últimas respuestas.
+ * @param latencies   Histograma de latencias en microsegundos por operación.
+ * @param errors      Respuestas fallidas por operación.
+ * @param unfinished  Peticiones sin respuesta al terminar el tiempo de espera.
+ */
+public record LoadResult(
+        double targetRate,
+        Duration elapsed,
+        Map<String, Histogram> latencies,
+        Map<String, Long> errors,
+        int unfinished
+) {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    public long totalCount() {
+        return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    public long errorCount() {
+        return errors.values().stream().mapToLong(Long::longValue).sum() + unfinished;
+    }
+
+    /**
+     * Histograma combinado de todas las operaciones.
+     */
+    public Histogram combined() {
+        Histogram all = new Histogram(3);
+        latencies.values().forEach(all::add);
+        return all;
+    }
+
+    /**
+     * Escribe un fichero .hgrm por operación (y uno combinado) más un resumen en texto.
+     * Los .hgrm usan milisegundos y se pueden graficar con HdrHistogram Plotter.
+     */
+    public void writeReports(Path directory, String scenario) {
+        try {
+            Files.createDirectories(directory);
+            for (Map.Entry<String, Histogram> entry : latencies.entrySet()) {
+                writeDistribution(directory.resolve(scenario + "-" + entry.getKey() + ".hgrm"), entry.getValue());
+            }
+            writeDistribution(directory.resolve(scenario + "-all.hgrm"), combined());
+            Files.writeString(directory.resolve(scenario + "-summary.txt"), summary(scenario), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudieron escribir los informes en " + directory, e);
+        }
+    }
+
+    /**
+     * Resumen legible: p50/p99/p999/max en milisegundos y throughput alcanzado.
+     */
+    public String summary(String scenario) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("scenario=%s targetRate=%.1f/s elapsed=%.1fs achieved=%.1f/s errors=%d%n",
+                scenario, targetRate, elapsed.toMillis() / 1_000.0,
+                totalCount() / (elapsed.toMillis() / 1_000.0), errorCount()));
+        out.append(String.format("%-10s %10s %10s %10s %10s %10s %8s%n",
+                "operation", "count", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "errors"));
+        latencies.forEach((name, histogram) -> appendRow(out, name, histogram, errors.getOrDefault(name, 0L)));
+        appendRow(out, "all", combined(), errorCount());
+        return out.toString();
+    }
+
+    private static void appendRow(StringBuilder out, String name, Histogram histogram, long errors) {
+        out.append(String.format("%-10s %10d %10.2f %10.2f %10.2f %10.2f %8d%n",
+                name, histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50.0) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.0) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI,
+                errors));
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.jcr.architectureportsandadapters.perf.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Generador de carga de modelo abierto (open model).
+ *
+ * FUNCIONAMIENTO:
+ * - Las peticiones se lanzan a una tasa fija, SIN esperar a que terminen las anteriores
+ *   (como llegan los clientes reales), con un instante de inicio planificado para cada una
+ * - La latencia se mide desde el instante PLANIFICADO, no desde el envío real
+ *
+ * CORRECCIÓN DE COORDINATED OMISSION:
+ * Si el sistema (o el propio generador) se atasca, las peticiones que debían salir durante
+ * el atasco acumulan ese retraso en su latencia, en lugar de desaparecer de la medición.
+ */
+public class OpenModelLoadGenerator {
+
+    /**
+     * Operación de la carga de trabajo: nombre (para agrupar latencias) y llamada asíncrona.
+     * La llamada completa con true si la respuesta fue correcta.
+     */
+    public record Operation(String name, Supplier<CompletableFuture<Boolean>> call) {
+    }
+
+    private static final Duration COMPLETION_TIMEOUT = Duration.ofSeconds(30);
+
+    private final double ratePerSecond;
+    private final Duration duration;
+
+    public OpenModelLoadGenerator(double ratePerSecond, Duration duration) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("La tasa de llegada debe ser positiva: " + ratePerSecond);
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.duration = duration;
+    }
+
+    /**
+     * Ejecuta la carga y devuelve las latencias (en microsegundos) por operación.
+     *
+     * @param workload Elige la siguiente operación a lanzar (permite mezclas de operaciones).
+     */
+    public LoadResult run(Supplier<Operation> workload) {
+        Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+        Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        AtomicInteger outstanding = new AtomicInteger();
+
+        long intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        long total = duration.toNanos() / intervalNanos;
+        long start = System.nanoTime();
+
+        for (long i = 0; i < total; i++) {
+            final long intended = start + i * intervalNanos;
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = workload.get();
+            Recorder recorder = recorders.computeIfAbsent(operation.name(), name -> new Recorder(3));
+            LongAdder operationErrors = errors.computeIfAbsent(operation.name(), name -> new LongAdder());
+
+            CompletableFuture<Boolean> call;
+            try {
+                call = operation.call().get();
+            } catch (RuntimeException e) {
+                call = CompletableFuture.failedFuture(e);
+            }
+            outstanding.incrementAndGet();
+            call.whenComplete((ok, error) -> {
+                recorder.recordValue((System.nanoTime() - intended) / 1_000);
+                if (error != null || !Boolean.TRUE.equals(ok)) {
+                    operationErrors.increment();
+                }
+                outstanding.decrementAndGet();
+            });
+        }
+
+        long deadline = System.nanoTime() + COMPLETION_TIMEOUT.toNanos();
+        while (outstanding.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(1_000_000);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Map<String, Histogram> latencies = new TreeMap<>();
+        recorders.forEach((name, recorder) -> latencies.put(name, recorder.getIntervalHistogram()));
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((name, adder) -> errorCounts.put(name, adder.sum()));
+
+        return new LoadResult(ratePerSecond, elapsed, latencies, errorCounts, outstanding.get());
+    }
+}
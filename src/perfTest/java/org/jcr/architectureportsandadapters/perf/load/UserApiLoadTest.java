@@ -0,0 +1,137 @@
+package org.jcr.architectureportsandadapters.perf.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Prueba de carga de la API de usuarios: mezcla de POST /api/v1/users y GET /api/v1/users/{id}
+ * contra la aplicación arrancada en un puerto aleatorio con H2 en memoria.
+ *
+ * Parámetros (propiedades de sistema, ver tarea perfTest):
+ * - perf.rate: peticiones por segundo (200)
+ * - perf.duration / perf.warmup: duración ISO-8601 de la medición (PT20S) y del calentamiento (PT5S)
+ * - perf.createRatio: proporción de creaciones sobre el total (0.2)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.jcr.architectureportsandadapters=INFO",
+        "logging.level.org.springframework.web=INFO"
+})
+class UserApiLoadTest {
+
+    private static final int SEED_USERS = 100;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<Long> userIds = Collections.synchronizedList(new ArrayList<>());
+    private ExecutorService executor;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+        client = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void mixedCreateAndGetWorkload() {
+        double rate = Double.parseDouble(System.getProperty("perf.rate", "200"));
+        Duration duration = Duration.parse(System.getProperty("perf.duration", "PT20S"));
+        Duration warmup = Duration.parse(System.getProperty("perf.warmup", "PT5S"));
+        double createRatio = Double.parseDouble(System.getProperty("perf.createRatio", "0.2"));
+        Path reportsDir = Path.of(System.getProperty("perf.reportsDir", "build/reports/perf"));
+
+        for (int i = 0; i < SEED_USERS; i++) {
+            assertThat(createUser().join()).isTrue();
+        }
+        Supplier<OpenModelLoadGenerator.Operation> workload = () ->
+                ThreadLocalRandom.current().nextDouble() < createRatio
+                        ? new OpenModelLoadGenerator.Operation("create", this::createUser)
+                        : new OpenModelLoadGenerator.Operation("get", this::getRandomUser);
+
+        // Calentamiento: JIT, pool de conexiones y caches; sus latencias se descartan
+        new OpenModelLoadGenerator(rate, warmup).run(workload);
+
+        LoadResult result = new OpenModelLoadGenerator(rate, duration).run(workload);
+        result.writeReports(reportsDir, "user-api-mixed");
+        System.out.print(result.summary("user-api-mixed"));
+
+        assertThat(result.totalCount()).isPositive();
+        assertThat(result.errorCount()).isZero();
+    }
+
+    private CompletableFuture<Boolean> createUser() {
+        int n = ThreadLocalRandom.current().nextInt(1_000_000);
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/users"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"nombre\":\"Nombre" + n + "\",\"apellido\":\"Apellido" + n + "\"}"))
+                .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    if (response.statusCode() != 200) {
+                        return false;
+                    }
+                    userIds.add(readId(response.body()));
+                    return true;
+                });
+    }
+
+    private CompletableFuture<Boolean> getRandomUser() {
+        Long id;
+        synchronized (userIds) {
+            id = userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/users/" + id)).GET().build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(response -> response.statusCode() == 200);
+    }
+
+    private long readId(String body) {
+        try {
+            return objectMapper.readTree(body).path("data").path("id").asLong();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,121 @@
+package org.jcr.architectureportsandadapters.infraestructure.messaging.outbox;
+
+import org.jcr.architectureportsandadapters.domain.model.User;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.entity.OutboxEventEntity;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.repository.jpa.SpringDataOutboxEventRepository;
+import org.jcr.architectureportsandadapters.port.in.CreateUserPort;
+import org.jcr.architectureportsandadapters.port.out.UserPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// BD propia: no comparte jdbc:h2:mem:testdb (ni su create-drop) con otros contextos cacheados.
+// Ciclos programados desactivados: el test dispara el relay manualmente.
+// El sink en memoria es un spy para poder simular fallos de publicación.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-relay-tests",
+        "outbox.sink.type=memory",
+        "outbox.relay.poll-interval-ms=3600000",
+        "outbox.relay.cleanup-interval-ms=3600000",
+        "outbox.relay.retention=PT0S",
+        "outbox.relay.retry-base-delay=PT1S"
+})
+class OutboxRelayTests {
+
+    @Autowired
+    private CreateUserPort createUserPort;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private UserPersistencePort userPersistencePort;
+
+    @MockitoSpyBean
+    private InMemoryOutboxEventSink sink;
+
+    @Autowired
+    private SpringDataOutboxEventRepository outboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAll();
+        sink.clear();
+    }
+
+    @Test
+    void relayPublishesCreatedUsersInOrderAndCleansUp() {
+        User juan = createUserPort.createUser(new User(null, "Juan", "Pérez"));
+        User ana = createUserPort.createUser(new User(null, "Ana", "García"));
+
+        assertThat(outboxRepository.countByDeliveredAtIsNull()).isEqualTo(2);
+
+        assertThat(outboxRelay.relayBatch()).isEqualTo(2);
+
+        assertThat(sink.getPublished())
+                .extracting(OutboxMessage::aggregateId, OutboxMessage::eventType)
+                .containsExactly(
+                        tuple(juan.id(), "USER_CREATED"),
+                        tuple(ana.id(), "USER_CREATED"));
+        assertThat(outboxRepository.countByDeliveredAtIsNull()).isZero();
+
+        assertThat(outboxRelay.cleanup()).isEqualTo(2);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void failedEventWaitsForItsBackoffAndBlocksLaterEventsOfTheSameUser() throws InterruptedException {
+        User juan = createUserPort.createUser(new User(null, "Juan", "Pérez"));
+        User ana = createUserPort.createUser(new User(null, "Ana", "García"));
+        userPersistencePort.save(new User(juan.id(), "Juan", "Pérez Gómez"));
+        doThrow(new IllegalStateException("broker caído"))
+                .when(sink).publish(argThat(message -> juan.id().equals(message.aggregateId())));
+
+        Instant beforeRelay = Instant.now();
+        // Se reclaman USER_CREATED de Juan y de Ana; USER_UPDATED de Juan espera al anterior
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+
+        OutboxEventEntity failed = events().get(0);
+        assertThat(failed.getAggregateId()).isEqualTo(juan.id());
+        assertThat(failed.getDeliveredAt()).isNull();
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getNextAttemptAt()).isAfter(beforeRelay);
+        assertThat(failed.getLastError()).isEqualTo("broker caído");
+
+        // Antes del backoff no se reintenta, ni se adelanta el evento posterior de Juan
+        assertThat(outboxRelay.relayBatch()).isZero();
+        verify(sink, times(1)).publish(argThat(message -> juan.id().equals(message.aggregateId())));
+
+        // El sink se recupera: pasado el backoff se publican los dos eventos de Juan en orden
+        reset(sink);
+        Thread.sleep(1_100);
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+
+        assertThat(sink.getPublished())
+                .extracting(OutboxMessage::aggregateId, OutboxMessage::eventType)
+                .containsExactly(
+                        tuple(ana.id(), "USER_CREATED"),
+                        tuple(juan.id(), "USER_CREATED"),
+                        tuple(juan.id(), "USER_UPDATED"));
+        assertThat(outboxRepository.countByDeliveredAtIsNull()).isZero();
+    }
+
+    private List<OutboxEventEntity> events() {
+        return outboxRepository.findAll(Sort.by("id"));
+    }
+}
@@ -0,0 +1,134 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.repository.adapters;
+
+import org.jcr.architectureportsandadapters.domain.model.User;
+import org.jcr.architectureportsandadapters.infraestructure.messaging.outbox.InMemoryOutboxEventSink;
+import org.jcr.architectureportsandadapters.infraestructure.messaging.outbox.OutboxMessage;
+import org.jcr.architectureportsandadapters.infraestructure.messaging.outbox.OutboxRelay;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.sharding.ShardRoutingDataSource;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.sharding.SnowflakeIdGenerator;
+import org.jcr.architectureportsandadapters.port.out.UserPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Las comprobaciones de ubicación consultan cada pool "shard-N" directamente, sin pasar
+// por el enrutado, para verificar dónde quedó realmente cada fila.
+@SpringBootTest(properties = {
+        "outbox.sink.type=memory",
+        "outbox.relay.poll-interval-ms=3600000",
+        "outbox.relay.cleanup-interval-ms=3600000"
+})
+@ActiveProfiles("sharding")
+class ShardedUserPersistenceAdapterTests {
+
+    private static final int SHARDS = 3;
+
+    @Autowired
+    private UserPersistencePort userPersistencePort;
+
+    @Autowired
+    private ShardRoutingDataSource shardRoutingDataSource;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxEventSink sink;
+
+    @BeforeEach
+    void setUp() {
+        for (int shard = 0; shard < SHARDS; shard++) {
+            shard(shard).update("delete from outbox_usuarios");
+            shard(shard).update("delete from usuarios");
+        }
+        sink.clear();
+    }
+
+    @Test
+    void storesEachUserOnlyInTheShardEncodedInItsId() {
+        assertThat(userPersistencePort).isInstanceOf(ShardedUserPersistenceAdapter.class);
+
+        List<User> created = createUsers(9);
+
+        for (int shard = 0; shard < SHARDS; shard++) {
+            List<Long> expected = idsOnShard(created, shard);
+            assertThat(expected).hasSize(3);
+            assertThat(shard(shard).queryForList("select id from usuarios", Long.class))
+                    .containsExactlyInAnyOrderElementsOf(expected);
+            // El evento outbox se escribe en el mismo shard que el usuario
+            assertThat(shard(shard).queryForList("select aggregate_id from outbox_usuarios", Long.class))
+                    .containsExactlyInAnyOrderElementsOf(expected);
+        }
+        assertThat(created).allSatisfy(user -> assertThat(user.id()).isPositive());
+        for (User user : created) {
+            assertThat(userPersistencePort.findById(user.id())).contains(user);
+        }
+    }
+
+    @Test
+    void pagesMergeUsersFromAllShardsInIdOrder() {
+        List<User> created = createUsers(9);
+
+        // Páginas de 4 sobre 3 shards: cada página mezcla filas de varios shards
+        List<User> paged = new ArrayList<>();
+        List<User> page;
+        long cursor = 0;
+        do {
+            page = userPersistencePort.findPage(cursor, 4);
+            assertThat(page).hasSizeLessThanOrEqualTo(4);
+            paged.addAll(page);
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).id();
+            }
+        } while (page.size() == 4);
+
+        assertThat(paged)
+                .containsExactlyInAnyOrderElementsOf(created)
+                .isSortedAccordingTo((a, b) -> Long.compare(a.id(), b.id()));
+    }
+
+    @Test
+    void outboxRelayDrainsEveryShard() {
+        List<User> created = createUsers(9);
+
+        outboxRelay.poll();
+
+        assertThat(sink.getPublished())
+                .extracting(OutboxMessage::aggregateId)
+                .containsExactlyInAnyOrderElementsOf(created.stream().map(User::id).toList());
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertThat(shard(shard).queryForObject(
+                    "select count(*) from outbox_usuarios where delivered_at is null", Integer.class))
+                    .isZero();
+        }
+    }
+
+    private List<User> createUsers(int count) {
+        List<User> created = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            created.add(userPersistencePort.save(new User(null, "Nombre" + i, "Apellido" + i)));
+        }
+        return created;
+    }
+
+    private static List<Long> idsOnShard(List<User> users, int shard) {
+        return users.stream()
+                .map(User::id)
+                .filter(id -> SnowflakeIdGenerator.shardOf(id) == shard)
+                .toList();
+    }
+
+    private JdbcTemplate shard(int shard) {
+        DataSource pool = shardRoutingDataSource.getResolvedDataSources().get(shard);
+        return new JdbcTemplate(pool);
+    }
+}
@@ -0,0 +1,83 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.routing;
+
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jcr.architectureportsandadapters.port.in.web.filter.ClientContextFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Primario y réplica son BDs distintas sin replicación: el usuario creado solo existe en el
+// primario, así que el código HTTP de la lectura indica a qué pool fue la consulta.
+@SpringBootTest(properties = {
+        "persistence.routing.primary.url=jdbc:h2:mem:routing-tests-primary;DB_CLOSE_DELAY=-1",
+        "persistence.routing.replicas[0].url=jdbc:h2:mem:routing-tests-replica;DB_CLOSE_DELAY=-1",
+        "persistence.routing.read-your-writes-window=500ms"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("replicas")
+class ReadReplicaRoutingTests {
+
+    private static final String CLIENT = "cliente-a";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void readsGoToReplicaExceptForSameClientWithinWindow() throws Exception {
+        long id = createUser();
+        double replicaReads = connections("replica-0", "read");
+        double readYourWrites = connections(ReadWriteRoutingDataSource.PRIMARY, "read-your-writes");
+
+        // Otro cliente: réplica (aún sin el usuario)
+        mockMvc.perform(get("/api/v1/users/{id}", id).header(ClientContextFilter.CLIENT_ID_HEADER, "cliente-b"))
+                .andExpect(status().isNotFound());
+        assertThat(connections("replica-0", "read")).isEqualTo(replicaReads + 1);
+
+        // Mismo cliente dentro de la ventana: primario
+        mockMvc.perform(get("/api/v1/users/{id}", id).header(ClientContextFilter.CLIENT_ID_HEADER, CLIENT))
+                .andExpect(status().isOk());
+        assertThat(connections(ReadWriteRoutingDataSource.PRIMARY, "read-your-writes"))
+                .isEqualTo(readYourWrites + 1);
+
+        // Mismo cliente pasada la ventana: de vuelta a la réplica
+        Thread.sleep(600);
+        mockMvc.perform(get("/api/v1/users/{id}", id).header(ClientContextFilter.CLIENT_ID_HEADER, CLIENT))
+                .andExpect(status().isNotFound());
+        assertThat(connections("replica-0", "read")).isEqualTo(replicaReads + 2);
+        assertThat(connections(ReadWriteRoutingDataSource.PRIMARY, "read-your-writes"))
+                .isEqualTo(readYourWrites + 1);
+    }
+
+    private long createUser() throws Exception {
+        double writes = connections(ReadWriteRoutingDataSource.PRIMARY, "write");
+        String body = mockMvc.perform(post("/api/v1/users")
+                        .header(ClientContextFilter.CLIENT_ID_HEADER, CLIENT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\":\"Juan\",\"apellido\":\"Pérez\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(connections(ReadWriteRoutingDataSource.PRIMARY, "write")).isGreaterThan(writes);
+        return Long.parseLong(JsonPath.read(body, "$.data.id"));
+    }
+
+    private double connections(String pool, String reason) {
+        return meterRegistry.get("persistence.routing.connections")
+                .tag("pool", pool)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+}
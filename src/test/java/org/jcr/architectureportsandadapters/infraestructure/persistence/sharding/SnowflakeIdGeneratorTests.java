@@ -0,0 +1,49 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SnowflakeIdGeneratorTests {
+
+    @Test
+    void encodesShardAndWorker() {
+        SnowflakeIdGenerator generator = generator(SnowflakeIdGenerator.MAX_WORKERS - 1);
+
+        long id = generator.nextId(SnowflakeIdGenerator.MAX_SHARDS - 1);
+
+        assertThat(id).isPositive();
+        assertThat(SnowflakeIdGenerator.shardOf(id)).isEqualTo(SnowflakeIdGenerator.MAX_SHARDS - 1);
+        assertThat(SnowflakeIdGenerator.workerOf(id)).isEqualTo(SnowflakeIdGenerator.MAX_WORKERS - 1);
+    }
+
+    @Test
+    void instancesWithDifferentWorkerIdsNeverCollide() {
+        SnowflakeIdGenerator first = generator(1);
+        SnowflakeIdGenerator second = generator(2);
+
+        // Más IDs que la secuencia de un milisegundo: fuerza a agotarla y pasar al siguiente
+        Set<Long> ids = new HashSet<>();
+        long previous = -1;
+        for (int i = 0; i < 5000; i++) {
+            long id = first.nextId(0);
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+            ids.add(id);
+            ids.add(second.nextId(0));
+        }
+
+        assertThat(ids).hasSize(10000);
+    }
+
+    private static SnowflakeIdGenerator generator(int workerId) {
+        WorkerIdLease lease = mock(WorkerIdLease.class);
+        when(lease.grant()).thenReturn(new WorkerIdLease.Grant(workerId, 0, Long.MAX_VALUE));
+        return new SnowflakeIdGenerator(lease);
+    }
+}
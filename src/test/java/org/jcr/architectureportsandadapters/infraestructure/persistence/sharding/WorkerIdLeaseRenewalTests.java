@@ -0,0 +1,69 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.sharding;
+
+import org.jcr.architectureportsandadapters.domain.model.User;
+import org.jcr.architectureportsandadapters.infraestructure.messaging.outbox.OutboxEventSink;
+import org.jcr.architectureportsandadapters.port.in.CreateUserPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Lease de 500 ms renovado cada 100 ms. El sink de pruebas se cuelga dentro de
+// OutboxRelay.poll(), ocupando el único hilo del planificador de Spring.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:worker-id-lease-renewal-tests",
+        "persistence.id.lease-duration=PT0.5S",
+        "persistence.id.lease-renew-interval-ms=100",
+        "outbox.sink.type=hanging",
+        "outbox.relay.poll-interval-ms=50"
+})
+class WorkerIdLeaseRenewalTests {
+
+    private static final CountDownLatch SINK_ENTERED = new CountDownLatch(1);
+    private static final CountDownLatch SINK_RELEASED = new CountDownLatch(1);
+
+    @TestConfiguration
+    static class HangingSinkConfig {
+        @Bean
+        OutboxEventSink hangingOutboxEventSink() {
+            return message -> {
+                SINK_ENTERED.countDown();
+                try {
+                    SINK_RELEASED.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private CreateUserPort createUserPort;
+
+    @Autowired
+    private WorkerIdLease workerIdLease;
+
+    @AfterEach
+    void releaseSink() {
+        SINK_RELEASED.countDown();
+    }
+
+    @Test
+    void leaseKeepsRenewingWhileTheRelayIsStuck() throws InterruptedException {
+        createUserPort.createUser(new User(null, "Juan", "Pérez"));
+        assertThat(SINK_ENTERED.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Más del doble de la duración del lease con el planificador de Spring bloqueado
+        Thread.sleep(1_200);
+
+        assertThat(workerIdLease.workerId()).isBetween(0, SnowflakeIdGenerator.MAX_WORKERS - 1);
+        assertThat(createUserPort.createUser(new User(null, "Ana", "García")).id()).isPositive();
+    }
+}
@@ -0,0 +1,74 @@
+package org.jcr.architectureportsandadapters.infraestructure.persistence.sharding;
+
+import org.jcr.architectureportsandadapters.infraestructure.persistence.repository.jpa.SpringDataIdWorkerLeaseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Sin persistence.id.worker-id: el contexto reserva su worker ID en id_worker_leases
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:worker-id-lease-tests")
+class WorkerIdLeaseTests {
+
+    @Autowired
+    private WorkerIdLease contextLease;
+
+    @Autowired
+    private SpringDataIdWorkerLeaseRepository leaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentInstancesLeaseDistinctWorkerIds() {
+        WorkerIdLease other = new WorkerIdLease(leaseRepository, transactionManager, -1, Duration.ofMinutes(1), 20_000);
+        other.acquire();
+        try {
+            assertThat(other.workerId()).isNotEqualTo(contextLease.workerId());
+        } finally {
+            other.release();
+        }
+    }
+
+    @Test
+    void expiredLeaseStopsIdGeneration() {
+        // Lease que caduca en el mismo instante de reservarse (como si no se hubiera renovado)
+        WorkerIdLease other = new WorkerIdLease(leaseRepository, transactionManager, -1, Duration.ofSeconds(-1), 20_000);
+        other.acquire();
+        try {
+            assertThatThrownBy(other::workerId).isInstanceOf(IllegalStateException.class);
+        } finally {
+            other.release();
+        }
+    }
+
+    @Test
+    void newHolderStartsAfterThePreviousHolderLastMillisecond() {
+        int workerId = (contextLease.workerId() + 1) % SnowflakeIdGenerator.MAX_WORKERS;
+        WorkerIdLease previous = new WorkerIdLease(leaseRepository, transactionManager, -1, Duration.ofMinutes(1), 20_000);
+        previous.acquire(workerId);
+        assertThat(previous.workerId()).isEqualTo(workerId);
+        long lastId = new SnowflakeIdGenerator(previous).nextId(0);
+        previous.release();
+
+        // Traspaso inmediato, normalmente dentro del mismo milisegundo del último ID
+        WorkerIdLease next = new WorkerIdLease(leaseRepository, transactionManager, -1, Duration.ofMinutes(1), 20_000);
+        next.acquire(workerId);
+        try {
+            assertThat(next.workerId()).isEqualTo(workerId);
+            long firstId = new SnowflakeIdGenerator(next).nextId(0);
+            assertThat(timestampOf(firstId)).isGreaterThan(timestampOf(lastId));
+        } finally {
+            next.release();
+        }
+    }
+
+    private static long timestampOf(long id) {
+        return id >>> (SnowflakeIdGenerator.SHARD_BITS + SnowflakeIdGenerator.WORKER_BITS + SnowflakeIdGenerator.SEQUENCE_BITS);
+    }
+}
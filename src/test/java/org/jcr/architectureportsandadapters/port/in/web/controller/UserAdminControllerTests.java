@@ -0,0 +1,64 @@
+package org.jcr.architectureportsandadapters.port.in.web.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Contexto propio: el top-K de UserHotKeyService empieza vacío y no recibe consultas de otros tests
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:user-admin-controller-tests")
+@AutoConfigureMockMvc
+class UserAdminControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void hotKeysReflectLookupsThroughGetUser() throws Exception {
+        String hottest = createUser("Juan", "Pérez");
+        String other = createUser("Ana", "García");
+
+        // GET /users/{id} -> UserService.findById -> RecordUserAccessPort.recordAccess
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/v1/users/{id}", hottest)).andExpect(status().isOk());
+        }
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/users/{id}", other)).andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/v1/admin/users/hot-keys").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                // Los IDs Snowflake superan 2^53: se devuelven como cadenas
+                .andExpect(jsonPath("$.data[0].userId").value(hottest))
+                .andExpect(jsonPath("$.data[0].estimatedHits").value(greaterThanOrEqualTo(5)))
+                .andExpect(jsonPath("$.data[1].userId").value(other))
+                .andExpect(jsonPath("$.data[1].estimatedHits").value(greaterThanOrEqualTo(2)));
+    }
+
+    @Test
+    void rejectsLimitOutOfRange() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/users/hot-keys").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/admin/users/hot-keys").param("limit", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String createUser(String nombre, String apellido) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\":\"" + nombre + "\",\"apellido\":\"" + apellido + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.data.id");
+    }
+}
@@ -0,0 +1,76 @@
+package org.jcr.architectureportsandadapters.shared.aot;
+
+import org.jcr.architectureportsandadapters.domain.model.User;
+import org.jcr.architectureportsandadapters.infraestructure.messaging.outbox.OutboxMessage;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.entity.IdWorkerLeaseEntity;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.entity.OutboxEventEntity;
+import org.jcr.architectureportsandadapters.infraestructure.persistence.entity.UserEntity;
+import org.jcr.architectureportsandadapters.port.in.web.dto.request.UserRequest;
+import org.jcr.architectureportsandadapters.port.in.web.dto.response.UserHotKeyResponse;
+import org.jcr.architectureportsandadapters.port.in.web.dto.response.UserPageResponse;
+import org.jcr.architectureportsandadapters.port.in.web.dto.response.UserResponse;
+import org.jcr.architectureportsandadapters.shared.response.ApiResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeRuntimeHintsTests {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeRuntimeHintsTests() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registersJpaEntities() {
+        assertEntity(UserEntity.class);
+        assertEntity(OutboxEventEntity.class);
+        assertEntity(IdWorkerLeaseEntity.class);
+    }
+
+    @Test
+    void registersProjectionConstructorOfDomainUser() throws NoSuchMethodException {
+        // "select new ...User(u.id, u.nombre, u.apellido)" en SpringDataUserRepository
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onConstructor(User.class.getDeclaredConstructor(Long.class, String.class, String.class)))
+                .accepts(hints);
+    }
+
+    @Test
+    void registersGeneratedMapper() {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("org.jcr.architectureportsandadapters.application.mapper.UserMapperImpl"))
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+    }
+
+    @Test
+    void registersTypesSerializedByJackson() {
+        assertJacksonType(ApiResponse.class);
+        assertJacksonType(ApiResponse.ErrorDetails.class);
+        assertJacksonType(UserRequest.class);
+        assertJacksonType(UserResponse.class);
+        assertJacksonType(OutboxMessage.class);
+        assertJacksonType(UserPageResponse.class);
+        assertJacksonType(UserHotKeyResponse.class);
+    }
+
+    private void assertEntity(Class<?> type) {
+        assertThat(RuntimeHintsPredicates.reflection().onType(type)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS))
+                .as(type.getName())
+                .accepts(hints);
+    }
+
+    private void assertJacksonType(Class<?> type) {
+        assertThat(RuntimeHintsPredicates.reflection().onType(type)
+                .withMemberCategories(MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS))
+                .as(type.getName())
+                .accepts(hints);
+    }
+}
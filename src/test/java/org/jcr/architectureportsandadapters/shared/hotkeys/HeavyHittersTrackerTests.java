@@ -0,0 +1,89 @@
+package org.jcr.architectureportsandadapters.shared.hotkeys;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeavyHittersTrackerTests {
+
+    @Test
+    void reportsHottestKeysAndDecaysCounts() {
+        HeavyHittersTracker tracker = new HeavyHittersTracker(3, 4, 1024);
+
+        // Tráfico de fondo: 1000 claves con un acceso cada una
+        for (long key = 1_000; key < 2_000; key++) {
+            tracker.record(key);
+        }
+        // Claves calientes
+        for (int i = 0; i < 500; i++) {
+            tracker.record(1L);
+            if (i % 2 == 0) {
+                tracker.record(2L);
+            }
+            if (i % 5 == 0) {
+                tracker.record(3L);
+            }
+        }
+
+        List<HeavyHittersTracker.HotKey> top = tracker.top(3);
+        assertThat(top).extracting(HeavyHittersTracker.HotKey::key).containsExactly(1L, 2L, 3L);
+        // Count-Min nunca subestima
+        assertThat(top.get(0).estimate()).isGreaterThanOrEqualTo(500);
+
+        tracker.decay();
+        assertThat(tracker.top(1).get(0).estimate()).isLessThan(top.get(0).estimate());
+    }
+
+    @Test
+    void keepsTopKeysAndExactLowerBoundUnderConcurrentHotKeyTraffic() throws Exception {
+        int threads = 8;
+        int iterations = 20_000;
+        HeavyHittersTracker tracker = new HeavyHittersTracker(3, 4, 1024);
+
+        // Todos los hilos golpean las mismas claves calientes a la vez, mezcladas con 5000 frías
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        tracker.record(1L);
+                        if (i % 2 == 0) {
+                            tracker.record(2L);
+                        }
+                        if (i % 5 == 0) {
+                            tracker.record(3L);
+                        }
+                        tracker.record(1_000 + (thread * iterations + i) % 5_000);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<HeavyHittersTracker.HotKey> top = tracker.top(3);
+        assertThat(top).extracting(HeavyHittersTracker.HotKey::key).containsExactly(1L, 2L, 3L);
+        // Ningún incremento concurrente se pierde: las estimaciones no bajan del conteo real
+        assertThat(top).extracting(HeavyHittersTracker.HotKey::estimate)
+                .satisfiesExactly(
+                        first -> assertThat(first).isGreaterThanOrEqualTo(threads * iterations),
+                        second -> assertThat(second).isGreaterThanOrEqualTo(threads * iterations / 2),
+                        third -> assertThat(third).isGreaterThanOrEqualTo(threads * iterations / 5));
+    }
+}